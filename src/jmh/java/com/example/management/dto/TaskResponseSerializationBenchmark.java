@@ -0,0 +1,56 @@
+package com.example.management.dto;
+
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskResponseSerializationBenchmark {
+    @Param({"5", "100"})
+    public int tasksCount;
+
+    @Param({"0", "20", "200"})
+    public int commentsPerTask;
+
+    @Param({"true", "false"})
+    public boolean indentOutput;
+
+    private ObjectWriter writer;
+    private List<TaskResponseDto> tasks;
+
+    @Setup
+    public void setUp() {
+        JsonMapper.Builder builder = JsonMapper.builder().findAndAddModules();
+        if (indentOutput) {
+            builder.enable(SerializationFeature.INDENT_OUTPUT);
+        }
+        writer = builder.build().writer();
+
+        tasks = new ArrayList<>();
+        for (int i = 0; i < tasksCount; i++) {
+            List<CommentResponseDto> comments = new ArrayList<>();
+            for (int c = 0; c < commentsPerTask; c++) {
+                comments.add(new CommentResponseDto("user" + (c % 10 + 1) + "@mail.com",
+                        "Comment " + c + " on task " + i));
+            }
+            tasks.add(new TaskResponseDto("task-" + i, "Description of task " + i,
+                    Status.values()[i % Status.values().length], Priority.values()[i % Priority.values().length],
+                    "user" + (i % 10 + 1) + "@mail.com",
+                    List.of("user2@mail.com", "user3@mail.com", "user4@mail.com"), comments));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeTasks() throws Exception {
+        return writer.writeValueAsBytes(tasks);
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.management.service;
+
+import com.example.management.dto.TaskResponseDto;
+import com.example.management.model.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TaskMappingBenchmark {
+    @Param({"5", "100"})
+    public int tasksCount;
+
+    @Param({"0", "20", "200"})
+    public int commentsPerTask;
+
+    private TaskService taskService;
+    private List<Task> tasks;
+    private Map<Long, List<Comment>> comments;
+
+    @Setup
+    public void setUp() {
+        taskService = new TaskService(null, null, null, null);
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= 10; i++) {
+            User user = new User();
+            user.setId((long) i);
+            user.setEmail("user" + i + "@mail.com");
+            users.add(user);
+        }
+
+        tasks = new ArrayList<>();
+        List<Comment> allComments = new ArrayList<>();
+        for (int i = 0; i < tasksCount; i++) {
+            Task task = new Task();
+            task.setId((long) i);
+            task.setName("task-" + i);
+            task.setDescription("Description of task " + i);
+            task.setStatus(Status.values()[i % Status.values().length]);
+            task.setPriority(Priority.values()[i % Priority.values().length]);
+            task.setAuthor(users.get(i % users.size()));
+            task.addExecutors(users.get((i + 1) % users.size()), users.get((i + 2) % users.size()),
+                    users.get((i + 3) % users.size()));
+            for (int c = 0; c < commentsPerTask; c++) {
+                Comment comment = new Comment();
+                comment.setId((long) i * commentsPerTask + c);
+                comment.setAuthor(users.get((i + c) % users.size()));
+                comment.setText("Comment " + c + " on task " + i);
+                task.addComments(comment);
+                allComments.add(comment);
+            }
+            tasks.add(task);
+        }
+        comments = allComments.stream().collect(Collectors.groupingBy(c -> c.getTask().getId()));
+    }
+
+    @Benchmark
+    public List<TaskResponseDto> mapToTaskResponseDto() {
+        return taskService.mapToTaskResponseDto(tasks, comments);
+    }
+}
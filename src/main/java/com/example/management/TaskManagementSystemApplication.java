@@ -2,8 +2,10 @@ package com.example.management;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class TaskManagementSystemApplication {
 	public static void main(String[] args) {
 		SpringApplication.run(TaskManagementSystemApplication.class, args);
@@ -0,0 +1,105 @@
+package com.example.management.cache;
+
+import com.example.management.repository.projection.TaskVersion;
+import com.example.management.service.TaskChangedEvent;
+import com.example.management.service.TaskService;
+import com.example.management.service.VersionedTask;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+@Component
+public class TaskJsonCache {
+    private TaskService taskService;
+    private ObjectMapper objectMapper;
+    private AsyncCache<String, Entry> tasks;
+
+    @Autowired
+    public TaskJsonCache(TaskService taskService, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                         @Value("${tasks.json-cache.maximum-size:64MB}") DataSize maximumSize) {
+        this.taskService = taskService;
+        this.objectMapper = objectMapper;
+        this.tasks = Caffeine.newBuilder()
+                .maximumWeight(maximumSize.toBytes())
+                .weigher((String name, Entry entry) -> name.length() * 2 + entry.getJson().length)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, tasks.synchronous(), "tasks.json");
+        Gauge.builder("cache.weight", tasks.synchronous(), c -> c.policy().eviction()
+                        .map(e -> e.weightedSize().orElse(0)).orElse(0L))
+                .tag("cache", "tasks.json")
+                .description("Approximate bytes held by the cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    public Entry get(String taskName) {
+        // the entry is loaded outside of the map's lock, a virtual thread blocked on JDBC must not pin its carrier
+        CompletableFuture<Entry> loading = new CompletableFuture<>();
+        CompletableFuture<Entry> entry = tasks.get(taskName, (name, executor) -> loading);
+        if (entry == loading) {
+            try {
+                loading.complete(load(taskName));
+            } catch (RuntimeException e) {
+                loading.completeExceptionally(e);
+            }
+        }
+        try {
+            return entry.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    public TaskVersion getVersion(String taskName) {
+        CompletableFuture<Entry> entry = tasks.asMap().get(taskName);
+        return entry != null && entry.isDone() && !entry.isCompletedExceptionally()
+                ? entry.join().getVersion()
+                : taskService.getTaskVersion(taskName);
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        tasks.synchronous().invalidate(event.getTaskName());
+    }
+
+    private Entry load(String taskName) {
+        VersionedTask task = taskService.getVersionedTask(taskName);
+        try {
+            return new Entry(task.getVersion(), objectMapper.writeValueAsBytes(task.getTask()));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static class Entry {
+        private final TaskVersion version;
+        private final byte[] json;
+
+        public Entry(TaskVersion version, byte[] json) {
+            this.version = version;
+            this.json = json;
+        }
+
+        public TaskVersion getVersion() {
+            return version;
+        }
+
+        public byte[] getJson() {
+            return json;
+        }
+    }
+}
@@ -1,10 +1,15 @@
 package com.example.management.controller;
 
 import com.example.management.exception.NoAuthorityException;
+import com.example.management.exception.PreconditionFailedException;
+import com.example.management.exception.ServiceOverloadedException;
 import com.example.management.dto.ErrorResponseDto;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -28,6 +33,19 @@ public class ControllerHandler {
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(new ErrorResponseDto(e.getMessage()));
     }
 
+    @ExceptionHandler
+    public ResponseEntity<ErrorResponseDto> handlePreconditionFailedException(PreconditionFailedException e) {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(new ErrorResponseDto(e.getMessage()));
+    }
+
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class,
+            ServiceOverloadedException.class})
+    public ResponseEntity<ErrorResponseDto> handleDatabaseUnavailableException(Exception e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResponseDto("The service is overloaded, retry later"));
+    }
+
     @ExceptionHandler
     public ResponseEntity<ErrorResponseDto> handleBadCredentialsException(BadCredentialsException e) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(new ErrorResponseDto(e.getMessage()));
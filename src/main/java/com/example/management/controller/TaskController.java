@@ -1,9 +1,19 @@
 package com.example.management.controller;
 
+import com.example.management.cache.TaskJsonCache;
 import com.example.management.dto.*;
+import com.example.management.events.TaskEventBroadcaster;
 import com.example.management.model.Priority;
 import com.example.management.model.Status;
+import com.example.management.service.CommentPage;
+import com.example.management.service.CommentWriteBehind;
+import com.example.management.service.TaskPage;
+import com.example.management.service.TaskPageRequest;
 import com.example.management.service.TaskService;
+import com.example.management.service.TaskStatistics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,18 +21,30 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 @Tag(name = "Tasks operations", description = "No users registration! A set of 10 predefined users is used. " +
         "User's email: 'user{i}@mail.com', user's password: 'password{i}' where i is from 1 to 10. For example, 'user1@mail.com', 'password1'.")
@@ -30,35 +52,77 @@ import java.util.Set;
 @RequestMapping(path = "/api/tasks", produces = MediaType.APPLICATION_JSON_VALUE)
 @Validated
 public class TaskController {
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_BATCH_SIZE = 1000;
+    static final int MAX_SEARCH_QUERY_LENGTH = 200;
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final String RESPOND_ASYNC = "respond-async";
+    private static final String FIELDS_DESCRIPTION = "Task's properties to return: name, description, status, " +
+            "priority, author, executors, comments. All but comments if not set";
+
     private TaskService taskService;
+    private TaskJsonCache taskJsonCache;
+    private TaskStatistics taskStatistics;
+    private TaskEventBroadcaster taskEventBroadcaster;
+    private CommentWriteBehind commentWriteBehind;
+    private ObjectWriter exportWriter;
 
     @Autowired
-    public TaskController(TaskService taskService) {
+    public TaskController(TaskService taskService, TaskJsonCache taskJsonCache, TaskStatistics taskStatistics,
+                          TaskEventBroadcaster taskEventBroadcaster, CommentWriteBehind commentWriteBehind,
+                          ObjectMapper objectMapper) {
         this.taskService = taskService;
+        this.commentWriteBehind = commentWriteBehind;
+        this.taskJsonCache = taskJsonCache;
+        this.taskStatistics = taskStatistics;
+        this.taskEventBroadcaster = taskEventBroadcaster;
+        this.exportWriter = objectMapper.writerFor(TaskResponseDto.class)
+                .without(SerializationFeature.INDENT_OUTPUT);
     }
 
     @Operation(summary = "Returns a task by name",
+            description = "The response carries the task's ETag. If it matches If-None-Match, 304 is returned without a body",
             parameters = {@Parameter(name = "name", description = "Unique task's name to return a task")},
             responses = {
+                @ApiResponse(responseCode = "200",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                        schema = @Schema(implementation = TaskResponseDto.class))),
+                @ApiResponse(description = "The task has not been modified", responseCode = "304"),
                 @ApiResponse(description = "Incorrect parameters", responseCode = "400",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                         schema = @Schema(implementation = ErrorResponseDto.class)))
             }
     )
     @GetMapping(path = "/{name}")
-    public TaskResponseDto getTask(@PathVariable("name") String taskName) {
-        return taskService.getTask(taskName);
+    public ResponseEntity<byte[]> getTask(@PathVariable("name") String taskName, WebRequest webRequest) {
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(TaskETags.of(taskJsonCache.getVersion(taskName)))) {
+            return null;
+        }
+        TaskJsonCache.Entry task = taskJsonCache.get(taskName);
+        return ResponseEntity.ok()
+                .eTag(TaskETags.of(task.getVersion()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(task.getJson());
     }
 
     @Operation(summary = "Returns tasks utilizing filters and pagination",
         description = "if author and executor are not set, returns all users, else returns author's tasks or tasks of an executor. " +
-                "Filters by status and/or priority. If a filter is not set, no filtering takes place",
+                "Filters by status and/or priority. If a filter is not set, no filtering takes place. " +
+                "Tasks are ordered by creation. If a cursor is set, the page starts right after it, else the page number is used. " +
+                "A full page carries the cursor of the next page in the X-Next-Cursor header. " +
+                "The page's ETag changes whenever one of its tasks does, If-None-Match is answered with 304",
         parameters = {
             @Parameter(name = "author", required = false, description = "Task's creator being used to find all created tasks"),
             @Parameter(name = "executor", required = false, description = "Task's executor being used to find all tasks he is doing"),
-            @Parameter(name = "page", description = "Page number. Max 5 tasks a page"),
+            @Parameter(name = "page", description = "Page number. Ignored if a cursor is set"),
+            @Parameter(name = "cursor", required = false, description = "Opaque cursor from the X-Next-Cursor header. Empty to start from the first task"),
+            @Parameter(name = "size", description = "Page size. Max " + TaskController.MAX_PAGE_SIZE + " tasks a page"),
             @Parameter(name = "status", description = "Task's status being used for filtering"),
-            @Parameter(name = "priority", description = "Task's status being used for filtering")
+            @Parameter(name = "priority", description = "Task's status being used for filtering"),
+            @Parameter(name = "fields", description = FIELDS_DESCRIPTION)
         },
         responses = {
             @ApiResponse(description = "Incorrect parameters", responseCode = "400",
@@ -67,28 +131,161 @@ public class TaskController {
         }
     )
     @GetMapping(path = "")
-    public List<TaskResponseDto> getTasks(
+    public ResponseEntity<List<TaskResponseDto>> getTasks(
             @RequestParam(name = "author", defaultValue = "") String authorEmail,
             @RequestParam(name = "executor", defaultValue = "") String executorEmail,
-            @RequestParam(value = "page", defaultValue = "1") int pageNumber,
+            @RequestParam(value = "page", defaultValue = "1") @Min(1) int pageNumber,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "5") @Min(1) @Max(MAX_PAGE_SIZE) int size,
             @RequestParam(value = "status", defaultValue = "") Set<Status> statuses,
-            @RequestParam(value = "priority", defaultValue = "") Set<Priority> priorities) {
+            @RequestParam(value = "priority", defaultValue = "") Set<Priority> priorities,
+            @RequestParam(value = "fields", defaultValue = "") Set<TaskField> fields,
+            WebRequest webRequest) {
         if (statuses.isEmpty()) {
             statuses.addAll(Arrays.asList(Status.values()));
         }
         if (priorities.isEmpty()) {
             priorities.addAll(Arrays.asList(Priority.values()));
         }
+        if (fields.isEmpty()) {
+            fields.addAll(TaskField.SUMMARY);
+        }
+        TaskPageRequest pageRequest = cursor == null
+                ? TaskPageRequest.ofPage(pageNumber - 1, size)
+                : TaskPageRequest.afterCursor(cursor, size);
 
+        // a matching If-None-Match is answered from the ids and versions of the page, before the tasks are read
+        Predicate<String> notModified = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) == null ? null
+                : versionTag -> webRequest.checkNotModified(TaskETags.weak(versionTag));
+        TaskPage page;
         if (!authorEmail.isEmpty()) {
-            return taskService
-                    .getTasksByAuthorEmail(authorEmail, pageNumber - 1, statuses, priorities);
+            page = taskService.getTasksByAuthorEmail(authorEmail, pageRequest, statuses, priorities, fields,
+                    notModified);
         } else if (!executorEmail.isEmpty()) {
-            return taskService
-                    .getTasksByExecutorEmail(executorEmail, pageNumber - 1, statuses, priorities);
+            page = taskService.getTasksByExecutorEmail(executorEmail, pageRequest, statuses, priorities, fields,
+                    notModified);
         } else {
-            return taskService.getTasks(pageNumber - 1, statuses, priorities);
+            page = taskService.getTasks(pageRequest, statuses, priorities, fields, notModified);
+        }
+        if (page.isNotModified()) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(TaskETags.weak(page.getVersionTag()));
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getTasks());
+    }
+
+    @Operation(summary = "Searches tasks by text",
+        description = "Matches words of task's name, description and comments, best matches first. " +
+                "Quoted phrases, 'or' and '-' to exclude a word are supported",
+        parameters = {
+            @Parameter(name = "q", description = "Words to search for"),
+            @Parameter(name = "page", description = "Page number"),
+            @Parameter(name = "size", description = "Page size. Max " + TaskController.MAX_PAGE_SIZE + " tasks a page"),
+            @Parameter(name = "fields", description = FIELDS_DESCRIPTION)
+        },
+        responses = {
+            @ApiResponse(description = "Incorrect parameters", responseCode = "400",
+                content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = ErrorResponseDto.class)))
+        }
+    )
+    @GetMapping(path = "/search")
+    public List<TaskResponseDto> searchTasks(
+            @RequestParam(name = "q") @NotBlank @Size(max = MAX_SEARCH_QUERY_LENGTH) String query,
+            @RequestParam(value = "page", defaultValue = "1") @Min(1) int pageNumber,
+            @RequestParam(value = "size", defaultValue = "5") @Min(1) @Max(MAX_PAGE_SIZE) int size,
+            @RequestParam(value = "fields", defaultValue = "") Set<TaskField> fields) {
+        if (fields.isEmpty()) {
+            fields.addAll(TaskField.SUMMARY);
+        }
+        return taskService.searchTasks(query, pageNumber - 1, size, fields);
+    }
+
+    @Operation(summary = "Returns task counts by status and priority",
+        description = "if author and executor are not set, counts all tasks, else counts author's tasks or tasks of an executor. " +
+                "Counts are kept up to date by every change and recounted from the database periodically",
+        parameters = {
+            @Parameter(name = "author", required = false, description = "Task's creator whose tasks are counted"),
+            @Parameter(name = "executor", required = false, description = "Task's executor whose tasks are counted")
+        }
+    )
+    @GetMapping(path = "/statistics")
+    public TaskStatisticsResponseDto getStatistics(
+            @RequestParam(name = "author", defaultValue = "") String authorEmail,
+            @RequestParam(name = "executor", defaultValue = "") String executorEmail) {
+        if (!authorEmail.isEmpty()) {
+            return taskStatistics.getStatisticsByAuthorEmail(authorEmail);
+        } else if (!executorEmail.isEmpty()) {
+            return taskStatistics.getStatisticsByExecutorEmail(executorEmail);
+        } else {
+            return taskStatistics.getStatistics();
+        }
+    }
+
+    @Operation(summary = "Streams task changes as server-sent events",
+        description = "Sends an event named after the change (CREATED, UPDATED, COMMENTED, EXECUTORS_ADDED, DELETED) " +
+                "with the task's state once the change is committed. Filters work the same way as for the tasks list, " +
+                "a change is sent if the task matches them before or after it. A client that does not keep up " +
+                "is disconnected and should reconnect",
+        parameters = {
+            @Parameter(name = "author", required = false, description = "Task's creator whose task changes are sent"),
+            @Parameter(name = "executor", required = false, description = "Task's executor whose task changes are sent"),
+            @Parameter(name = "status", description = "Task's status being used for filtering"),
+            @Parameter(name = "priority", description = "Task's status being used for filtering")
+        }
+    )
+    @GetMapping(path = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamEvents(
+            @RequestParam(name = "author", defaultValue = "") String authorEmail,
+            @RequestParam(name = "executor", defaultValue = "") String executorEmail,
+            @RequestParam(value = "status", defaultValue = "") Set<Status> statuses,
+            @RequestParam(value = "priority", defaultValue = "") Set<Priority> priorities) {
+        if (statuses.isEmpty()) {
+            statuses.addAll(Arrays.asList(Status.values()));
+        }
+        if (priorities.isEmpty()) {
+            priorities.addAll(Arrays.asList(Priority.values()));
+        }
+        return taskEventBroadcaster.subscribe(authorEmail, executorEmail, statuses, priorities);
+    }
+
+    @Operation(summary = "Exports tasks as newline delimited JSON",
+        description = "Streams every task matching the filters, one JSON object a line, ordered by creation. " +
+                "Filters work the same way as for the tasks list",
+        parameters = {
+            @Parameter(name = "author", required = false, description = "Task's creator being used to find all created tasks"),
+            @Parameter(name = "executor", required = false, description = "Task's executor being used to find all tasks he is doing"),
+            @Parameter(name = "status", description = "Task's status being used for filtering"),
+            @Parameter(name = "priority", description = "Task's status being used for filtering")
         }
+    )
+    @GetMapping(path = "/export", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTasks(
+            @RequestParam(name = "author", defaultValue = "") String authorEmail,
+            @RequestParam(name = "executor", defaultValue = "") String executorEmail,
+            @RequestParam(value = "status", defaultValue = "") Set<Status> statuses,
+            @RequestParam(value = "priority", defaultValue = "") Set<Priority> priorities) {
+        if (statuses.isEmpty()) {
+            statuses.addAll(Arrays.asList(Status.values()));
+        }
+        if (priorities.isEmpty()) {
+            priorities.addAll(Arrays.asList(Priority.values()));
+        }
+
+        StreamingResponseBody body = out -> taskService.exportTasks(authorEmail, executorEmail,
+                statuses, priorities, task -> {
+                    try {
+                        out.write(exportWriter.writeValueAsBytes(task));
+                        out.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON_VALUE)).body(body);
     }
 
     @Operation(summary = "Creates a task",
@@ -105,8 +302,26 @@ public class TaskController {
         taskService.createTask(request, userDetails.getUsername());
     }
 
+    @Operation(summary = "Creates tasks in bulk",
+            description = "Creates every valid task of the batch in one transaction. An invalid item " +
+                    "(existing or repeated name, unknown executor) is reported in the result and skipped, " +
+                    "the rest of the batch is still created. Max " + TaskController.MAX_BATCH_SIZE + " tasks a batch",
+            responses = {
+                @ApiResponse(description = "Incorrect parameters", responseCode = "400",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                        schema = @Schema(implementation = ErrorResponseDto.class)))
+            }
+    )
+    @PostMapping(path = "/batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public List<BatchItemResponseDto> createTasks(
+            @RequestBody @Size(min = 1, max = MAX_BATCH_SIZE) List<@Valid TaskCreationRequestDto> requests,
+            @AuthenticationPrincipal UserDetails userDetails) {
+        return taskService.createTasks(requests, userDetails.getUsername());
+    }
+
     @Operation(summary = "Modifies a task",
-            description = "If status and/or priority are not set the property is not modified, else updates the properties",
+            description = "If status and/or priority are not set the property is not modified, else updates the properties. " +
+                    "If-Match with the task's ETag makes the update fail with 412 when the task has been modified since",
             parameters = {
                 @Parameter(name = "name", description = "Task's name being modified"),
                 @Parameter(name = "status", description = "New task's status. Only the creator and executors can modify"),
@@ -120,6 +335,10 @@ public class TaskController {
                 @ApiResponse(description = "No authority for such a modification", responseCode = "403",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                         schema = @Schema(implementation = ErrorResponseDto.class))
+                ),
+                @ApiResponse(description = "The task has been modified since If-Match", responseCode = "412",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                        schema = @Schema(implementation = ErrorResponseDto.class))
                 )
             }
     )
@@ -128,26 +347,71 @@ public class TaskController {
     public void updateTask(@PathVariable("name") String taskName,
                            @RequestParam(name = "status", defaultValue = "") Status status,
                            @RequestParam(name = "priority", defaultValue = "") Priority priority,
+                           @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                            @AuthenticationPrincipal UserDetails userDetails) {
-        taskService.updateTask(userDetails.getUsername(), taskName, status, priority);
+        taskService.updateTask(userDetails.getUsername(), taskName, status, priority,
+                TaskETags.parseIfMatch(ifMatch));
+    }
+
+    @Operation(summary = "Returns comments of a task",
+            description = "Comments are ordered by creation. A full page carries the cursor of the next page in the X-Next-Cursor header",
+            parameters = {
+                @Parameter(name = "name", description = "Task's name to return comments"),
+                @Parameter(name = "cursor", required = false, description = "Opaque cursor from the X-Next-Cursor header. Empty to start from the first comment"),
+                @Parameter(name = "size", description = "Page size. Max " + TaskController.MAX_PAGE_SIZE + " comments a page")
+            },
+            responses = {
+                @ApiResponse(description = "Incorrect parameters", responseCode = "400",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                        schema = @Schema(implementation = ErrorResponseDto.class)))
+            }
+    )
+    @GetMapping(path = "/{name}/comments")
+    public ResponseEntity<List<CommentResponseDto>> getComments(
+            @PathVariable("name") String taskName,
+            @RequestParam(value = "cursor", defaultValue = "") String cursor,
+            @RequestParam(value = "size", defaultValue = "20") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        CommentPage page = taskService.getComments(taskName, TaskPageRequest.afterCursor(cursor, size));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getComments());
     }
 
     @Operation(summary = "Adds a comment for a task",
-            parameters = {@Parameter(name = "name", description = "Task's name to add a comment")},
+            description = "Without Prefer: respond-async the comment is stored when 204 is returned. " +
+                    "With it 202 is returned once the comment is queued, it is stored shortly after in a batch " +
+                    "and may be lost if the service fails before that",
+            parameters = {
+                @Parameter(name = "name", description = "Task's name to add a comment"),
+                @Parameter(name = "Prefer", required = false, description = "respond-async to only wait for the comment to be queued")
+            },
             responses = {
+                @ApiResponse(description = "Comment is stored", responseCode = "204"),
+                @ApiResponse(description = "Comment is queued to be stored", responseCode = "202"),
                 @ApiResponse(description = "Incorrect parameters", responseCode = "400",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                        schema = @Schema(implementation = ErrorResponseDto.class))),
+                @ApiResponse(description = "Too many comments are queued, retry after Retry-After seconds", responseCode = "503",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                         schema = @Schema(implementation = ErrorResponseDto.class)))
             }
     )
     @PostMapping(path = "/{name}/comments", consumes = MediaType.APPLICATION_JSON_VALUE)
-    @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void addComment(@PathVariable("name") String taskName,
-                           @RequestBody @Valid CommentRequestDto request) {
+    public ResponseEntity<Void> addComment(@PathVariable("name") String taskName,
+                                           @RequestHeader(name = "Prefer", required = false) String prefer,
+                                           @RequestBody @Valid CommentRequestDto request) {
+        if (prefer != null && prefer.contains(RESPOND_ASYNC)) {
+            commentWriteBehind.submit(taskName, request.getText());
+            return ResponseEntity.accepted().header("Preference-Applied", RESPOND_ASYNC).build();
+        }
         taskService.addComment(taskName, request.getText());
+        return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "Adds an executor for a task",
+    @Operation(summary = "Adds executors for a task",
+            description = "Takes a single executor in email and/or several in emails, all are added at once",
             parameters = {@Parameter(name = "name", description = "Task's name to add an executor")},
             responses = {
                 @ApiResponse(description = "Incorrect parameters", responseCode = "400",
@@ -162,13 +426,14 @@ public class TaskController {
     )
     @PostMapping(path = "/{name}/executors", consumes = MediaType.APPLICATION_JSON_VALUE)
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void addExecutor(@PathVariable("name") String taskName,
-                            @RequestBody @Valid ExecutorRequestDto executor,
+    public void addExecutors(@PathVariable("name") String taskName,
+                             @RequestBody @Valid ExecutorRequestDto executor,
                             @AuthenticationPrincipal UserDetails userDetails) {
-        taskService.addExecutor(userDetails.getUsername(), taskName, executor.getEmail());
+        taskService.addExecutors(userDetails.getUsername(), taskName, executor.getEmails());
     }
 
     @Operation(summary = "Deletes a task",
+            description = "If-Match with the task's ETag makes the deletion fail with 412 when the task has been modified since",
             parameters = {@Parameter(name = "name", description = "Task's name to delete")},
             responses = {
                 @ApiResponse(description = "Incorrect parameters", responseCode = "400",
@@ -178,13 +443,18 @@ public class TaskController {
                 @ApiResponse(description = "No authority to delete a task", responseCode = "403",
                     content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
                         schema = @Schema(implementation = ErrorResponseDto.class))
+                ),
+                @ApiResponse(description = "The task has been modified since If-Match", responseCode = "412",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+                        schema = @Schema(implementation = ErrorResponseDto.class))
                 )
             }
     )
     @DeleteMapping(path = "/{name}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void deleteTask(@PathVariable("name") String name,
+                           @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                            @AuthenticationPrincipal UserDetails userDetails) {
-        taskService.deleteTask(userDetails.getUsername(), name);
+        taskService.deleteTask(userDetails.getUsername(), name, TaskETags.parseIfMatch(ifMatch));
     }
 }
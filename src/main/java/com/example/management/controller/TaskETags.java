@@ -0,0 +1,33 @@
+package com.example.management.controller;
+
+import com.example.management.exception.PreconditionFailedException;
+import com.example.management.repository.projection.TaskVersion;
+
+final class TaskETags {
+    private TaskETags() {}
+
+    static String of(TaskVersion version) {
+        return "\"" + version.id() + "." + version.version() + "\"";
+    }
+
+    static String weak(String versionTag) {
+        return "W/\"" + versionTag + "\"";
+    }
+
+    static TaskVersion parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        int dot = tag.indexOf('.');
+        if (tag.length() < 5 || !tag.startsWith("\"") || !tag.endsWith("\"") || dot < 0) {
+            throw new PreconditionFailedException("If-Match '" + ifMatch + "' does not match the task");
+        }
+        try {
+            return new TaskVersion(Long.parseLong(tag.substring(1, dot)),
+                    Long.parseLong(tag.substring(dot + 1, tag.length() - 1)));
+        } catch (NumberFormatException e) {
+            throw new PreconditionFailedException("If-Match '" + ifMatch + "' does not match the task");
+        }
+    }
+}
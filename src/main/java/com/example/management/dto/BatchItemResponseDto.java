@@ -0,0 +1,45 @@
+package com.example.management.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+public class BatchItemResponseDto {
+    @Schema(description = "Position of the item in the request")
+    @JsonProperty
+    private final int index;
+
+    @Schema(description = "Task's name")
+    @JsonProperty
+    private final String name;
+
+    @Schema(description = "Whether the task is created")
+    @JsonProperty
+    private final boolean created;
+
+    @Schema(description = "Reason the task is not created")
+    @JsonProperty
+    private final String message;
+
+    public BatchItemResponseDto(int index, String name, boolean created, String message) {
+        this.index = index;
+        this.name = name;
+        this.created = created;
+        this.message = message;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isCreated() {
+        return created;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -5,18 +5,38 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class ExecutorRequestDto {
     @Schema(description = "Executor's email")
     @JsonProperty
     @Email
     private final String email;
 
+    @Schema(description = "Executors' emails, added together with the email if both are set")
+    @JsonProperty
+    private final List<@Email String> emails;
+
     @JsonCreator
-    public ExecutorRequestDto(@JsonProperty("email") String email) {
+    public ExecutorRequestDto(@JsonProperty("email") String email,
+                              @JsonProperty("emails") List<@Email String> emails) {
         this.email = email;
+        this.emails = emails;
     }
 
     public String getEmail() {
         return email;
     }
+
+    public List<String> getEmails() {
+        List<String> allEmails = new ArrayList<>();
+        if (email != null) {
+            allEmails.add(email);
+        }
+        if (emails != null) {
+            allEmails.addAll(emails);
+        }
+        return allEmails;
+    }
 }
@@ -9,14 +9,19 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
 
 import java.util.List;
 import java.util.Set;
 
 public class TaskCreationRequestDto {
-    @Schema(description = "Task's name")
+    // GET /api/tasks/{name} could never return a task named after one of the fixed paths under /api/tasks
+    private static final String NOT_RESERVED = "^(?!(search|statistics|events|export)$).*";
+
+    @Schema(description = "Task's name. Not one of search, statistics, events, export")
     @JsonProperty
     @NotEmpty
+    @Pattern(regexp = NOT_RESERVED, message = "search, statistics, events and export are reserved task names")
     private final String name;
 
     @Schema(description = "Task's description")
@@ -0,0 +1,61 @@
+package com.example.management.dto;
+
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Collection;
+
+public class TaskEventResponseDto {
+    @JsonProperty
+    private final String type;
+
+    @JsonProperty
+    private final String name;
+
+    @JsonProperty
+    private final Status status;
+
+    @JsonProperty
+    private final Priority priority;
+
+    @JsonProperty
+    private final String author;
+
+    @JsonProperty
+    private final Collection<String> executors;
+
+    public TaskEventResponseDto(String type, String name, Status status, Priority priority, String author,
+                                Collection<String> executors) {
+        this.type = type;
+        this.name = name;
+        this.status = status;
+        this.priority = priority;
+        this.author = author;
+        this.executors = executors;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public Collection<String> getExecutors() {
+        return executors;
+    }
+}
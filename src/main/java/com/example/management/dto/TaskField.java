@@ -0,0 +1,18 @@
+package com.example.management.dto;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+public enum TaskField {
+    NAME,
+    DESCRIPTION,
+    STATUS,
+    PRIORITY,
+    AUTHOR,
+    EXECUTORS,
+    COMMENTS;
+
+    public static final Set<TaskField> SUMMARY = Collections.unmodifiableSet(EnumSet.range(NAME, EXECUTORS));
+    public static final Set<TaskField> ALL = Collections.unmodifiableSet(EnumSet.allOf(TaskField.class));
+}
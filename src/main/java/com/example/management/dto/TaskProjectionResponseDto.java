@@ -0,0 +1,16 @@
+package com.example.management.dto;
+
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+// a task reduced to the requested fields, the ones left out are omitted rather than written as null
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskProjectionResponseDto extends TaskResponseDto {
+    public TaskProjectionResponseDto(String name, String description, Status status, Priority priority, String author,
+                                     List<String> executors, List<CommentResponseDto> comments) {
+        super(name, description, status, priority, author, executors, comments);
+    }
+}
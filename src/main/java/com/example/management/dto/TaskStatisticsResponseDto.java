@@ -0,0 +1,28 @@
+package com.example.management.dto;
+
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+
+public class TaskStatisticsResponseDto {
+    @JsonProperty
+    private final long total;
+
+    @JsonProperty
+    private final Map<Status, Map<Priority, Long>> counts;
+
+    public TaskStatisticsResponseDto(long total, Map<Status, Map<Priority, Long>> counts) {
+        this.total = total;
+        this.counts = counts;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public Map<Status, Map<Priority, Long>> getCounts() {
+        return counts;
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.management.events;
+
+import com.example.management.dto.TaskEventResponseDto;
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+import com.example.management.service.TaskChangedEvent;
+import com.example.management.service.TaskSnapshot;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+@Component
+public class TaskEventBroadcaster {
+    private static final Supplier<SseEmitter.SseEventBuilder> HEARTBEAT =
+            () -> SseEmitter.event().comment("heartbeat");
+
+    private ObjectWriter eventWriter;
+    private int bufferSize;
+    private Duration timeout;
+    private ExecutorService senders;
+    private Counter evictions;
+    private Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public TaskEventBroadcaster(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                                @Value("${tasks.events.buffer-size:64}") int bufferSize,
+                                @Value("${tasks.events.sender-threads:4}") int senderThreads,
+                                @Value("${tasks.events.timeout:30m}") Duration timeout) {
+        this.eventWriter = objectMapper.writerFor(TaskEventResponseDto.class)
+                .without(SerializationFeature.INDENT_OUTPUT);
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+        this.senders = Executors.newFixedThreadPool(senderThreads, new CustomizableThreadFactory("task-events-"));
+        Gauge.builder("tasks.events.subscribers", subscribers, Set::size)
+                .description("Open task event streams")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("tasks.events.evictions")
+                .description("Task event streams closed because the client did not keep up")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(String authorEmail, String executorEmail,
+                                Set<Status> statuses, Set<Priority> priorities) {
+        SseEmitter emitter = newEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, authorEmail, executorEmail, statuses, priorities,
+                new ArrayBlockingQueue<>(bufferSize));
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        // commits the response headers, so that the client sees the stream open before the first change
+        offer(subscriber, HEARTBEAT);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        TaskSnapshot task = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        String json;
+        try {
+            json = eventWriter.writeValueAsString(new TaskEventResponseDto(event.getType().name(),
+                    task.getName(), task.getStatus(), task.getPriority(), task.getAuthorEmail(),
+                    task.getExecutorEmails()));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        // a builder can be built once only, each subscriber gets its own
+        Supplier<SseEmitter.SseEventBuilder> message = () -> SseEmitter.event()
+                .name(event.getType().name())
+                .data(json, MediaType.APPLICATION_JSON);
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.matches(event.getBefore()) || subscriber.matches(event.getAfter())) {
+                offer(subscriber, message);
+            }
+        }
+    }
+
+    @Scheduled(fixedRateString = "${tasks.events.heartbeat-interval:PT30S}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            offer(subscriber, HEARTBEAT);
+        }
+    }
+
+    SseEmitter newEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    @PreDestroy
+    public void close() {
+        senders.shutdownNow();
+        subscribers.forEach(s -> s.emitter.complete());
+    }
+
+    private void offer(Subscriber subscriber, Supplier<SseEmitter.SseEventBuilder> message) {
+        // completing the emitter may block on the client just like a send, so the sender thread does it
+        if (!subscriber.buffer.offer(message) && subscriber.evicted.compareAndSet(false, true)) {
+            evictions.increment();
+            subscribers.remove(subscriber);
+        }
+        if (subscriber.sending.compareAndSet(false, true)) {
+            senders.execute(() -> send(subscriber));
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        do {
+            Supplier<SseEmitter.SseEventBuilder> message;
+            while (!subscriber.evicted.get() && (message = subscriber.buffer.poll()) != null) {
+                try {
+                    subscriber.emitter.send(message.get());
+                } catch (IOException | IllegalStateException e) {
+                    subscribers.remove(subscriber);
+                    subscriber.buffer.clear();
+                    return;
+                }
+            }
+            if (subscriber.evicted.get()) {
+                // sending stays set, so no other sender picks the subscriber up again
+                subscriber.buffer.clear();
+                subscriber.emitter.complete();
+                return;
+            }
+            subscriber.sending.set(false);
+            // a message offered after the last poll but before the flag was cleared is sent by this thread
+        } while ((!subscriber.buffer.isEmpty() || subscriber.evicted.get())
+                && subscriber.sending.compareAndSet(false, true));
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final String authorEmail;
+        private final String executorEmail;
+        private final Set<Status> statuses;
+        private final Set<Priority> priorities;
+        private final BlockingQueue<Supplier<SseEmitter.SseEventBuilder>> buffer;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private final AtomicBoolean evicted = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, String authorEmail, String executorEmail,
+                           Set<Status> statuses, Set<Priority> priorities,
+                           BlockingQueue<Supplier<SseEmitter.SseEventBuilder>> buffer) {
+            this.emitter = emitter;
+            this.authorEmail = authorEmail;
+            this.executorEmail = executorEmail;
+            this.statuses = statuses;
+            this.priorities = priorities;
+            this.buffer = buffer;
+        }
+
+        private boolean matches(TaskSnapshot task) {
+            return task != null
+                    && (authorEmail.isEmpty() || authorEmail.equals(task.getAuthorEmail()))
+                    && (executorEmail.isEmpty() || task.getExecutorEmails().contains(executorEmail))
+                    && statuses.contains(task.getStatus())
+                    && priorities.contains(task.getPriority());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.management.exception;
+
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException() {}
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
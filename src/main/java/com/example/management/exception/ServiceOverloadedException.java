@@ -0,0 +1,9 @@
+package com.example.management.exception;
+
+public class ServiceOverloadedException extends RuntimeException {
+    public ServiceOverloadedException() {}
+
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
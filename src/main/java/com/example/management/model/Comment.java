@@ -1,6 +1,8 @@
 package com.example.management.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.util.Objects;
 
@@ -19,6 +21,7 @@ public class Comment {
 
     @ManyToOne(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
     @JoinColumn(name = "task_id", referencedColumnName = "id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Task task;
 
     public Long getId() {
@@ -33,14 +36,8 @@ public class Comment {
         return author;
     }
 
+    // the author's comments are not kept in sync, touching them would load all of the author's comments
     public void setAuthor(User author) {
-        if (author == null) {
-            if (this.author != null) {
-                this.author.getComments().remove(this);
-            }
-        } else {
-            author.getComments().add(this);
-        }
         this.author = author;
     }
 
@@ -1,6 +1,8 @@
 package com.example.management.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.util.*;
 
@@ -8,9 +10,13 @@ import java.util.*;
 @Table(name = "tasks")
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
+    @Version
+    private Long version;
+
     @Column(unique = true)
     private String name;
 
@@ -30,6 +36,7 @@ public class Task {
     @JoinTable(name = "executors_tasks",
             joinColumns = @JoinColumn(name = "task_id", referencedColumnName = "id"),
             inverseJoinColumns = @JoinColumn(name = "executor_id", referencedColumnName = "id"))
+    @OnDelete(action = OnDeleteAction.CASCADE)
     private Set<User> executors = new LinkedHashSet<>();
 
     @OneToMany(mappedBy = "task", fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.MERGE})
@@ -43,6 +50,14 @@ public class Task {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public String getName() {
         return name;
     }
@@ -79,14 +94,8 @@ public class Task {
         return author;
     }
 
+    // the inverse collections of users are not kept in sync, touching them would load all of a user's tasks
     public void setAuthor(User author) {
-        if (author == null) {
-            if (this.author != null) {
-                this.author.getAuthorTasks().remove(this);
-            }
-        } else {
-            author.getAuthorTasks().add(this);
-        }
         this.author = author;
     }
 
@@ -98,7 +107,6 @@ public class Task {
         Objects.requireNonNull(executors);
         for (User executor : executors) {
             this.executors.add(executor);
-            executor.getExecutorTasks().add(this);
         }
     }
 
@@ -106,7 +114,6 @@ public class Task {
         Objects.requireNonNull(executors);
         for (User executor : executors) {
             this.executors.remove(executor);
-            executor.getExecutorTasks().remove(this);
         }
     }
 
@@ -1,10 +1,62 @@
 package com.example.management.repository;
 
 import com.example.management.model.Comment;
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+import com.example.management.repository.projection.CommentRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
+    @Transactional(readOnly = true)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.author WHERE c.task.id IN :taskIds ORDER BY c.id")
+    List<Comment> findAllWithAuthorByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.example.management.repository.projection.CommentRow(c.id, c.task.id, a.email, c.text) " +
+            "FROM Comment c JOIN c.author a WHERE c.task.id IN :taskIds ORDER BY c.id")
+    List<CommentRow> findRowsByTaskIdIn(@Param("taskIds") Collection<Long> taskIds);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.example.management.repository.projection.CommentRow(c.id, t.id, a.email, c.text) " +
+            "FROM Comment c JOIN c.task t JOIN c.author a WHERE t.name = :taskName AND c.id > :afterId ORDER BY c.id")
+    List<CommentRow> findRowsByTaskName(@Param("taskName") String taskName, @Param("afterId") long afterId,
+                                        Pageable pageable);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = TaskRepository.STREAM_FETCH_SIZE))
+    @Query("SELECT new com.example.management.repository.projection.CommentRow(c.id, t.id, a.email, c.text) " +
+            "FROM Comment c JOIN c.task t JOIN c.author a " +
+            "WHERE t.status IN :statuses AND t.priority IN :priorities ORDER BY t.id, c.id")
+    Stream<CommentRow> streamRows(@Param("statuses") Set<Status> statuses,
+                                  @Param("priorities") Set<Priority> priorities);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = TaskRepository.STREAM_FETCH_SIZE))
+    @Query("SELECT new com.example.management.repository.projection.CommentRow(c.id, t.id, a.email, c.text) " +
+            "FROM Comment c JOIN c.task t JOIN c.author a JOIN t.author ta " +
+            "WHERE ta.email = :email AND t.status IN :statuses AND t.priority IN :priorities ORDER BY t.id, c.id")
+    Stream<CommentRow> streamRowsByTaskAuthorEmail(@Param("email") String email,
+                                                   @Param("statuses") Set<Status> statuses,
+                                                   @Param("priorities") Set<Priority> priorities);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = TaskRepository.STREAM_FETCH_SIZE))
+    @Query("SELECT new com.example.management.repository.projection.CommentRow(c.id, t.id, a.email, c.text) " +
+            "FROM Comment c JOIN c.task t JOIN c.author a JOIN t.executors e " +
+            "WHERE e.email = :email AND t.status IN :statuses AND t.priority IN :priorities ORDER BY t.id, c.id")
+    Stream<CommentRow> streamRowsByTaskExecutorEmail(@Param("email") String email,
+                                                     @Param("statuses") Set<Status> statuses,
+                                                     @Param("priorities") Set<Priority> priorities);
 }
@@ -0,0 +1,9 @@
+package com.example.management.repository;
+
+import com.example.management.repository.projection.NewCommentRow;
+
+import java.util.List;
+
+public interface CommentRepositoryCustom {
+    void insertAll(List<NewCommentRow> comments);
+}
@@ -0,0 +1,33 @@
+package com.example.management.repository;
+
+import com.example.management.repository.projection.NewCommentRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.util.List;
+
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+    private static final String INSERT = "INSERT INTO comments (task_id, author_id, text) VALUES (?, ?, ?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public void insertAll(List<NewCommentRow> comments) {
+        entityManager.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT)) {
+                for (NewCommentRow comment : comments) {
+                    statement.setLong(1, comment.taskId());
+                    statement.setLong(2, comment.authorId());
+                    statement.setString(3, comment.text());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+}
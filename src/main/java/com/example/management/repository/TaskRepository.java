@@ -4,52 +4,166 @@ import com.example.management.model.Priority;
 import com.example.management.model.Status;
 import com.example.management.model.Task;
 import com.example.management.model.User;
-import org.springframework.data.domain.Page;
+import com.example.management.repository.projection.ExecutorRow;
+import com.example.management.repository.projection.StatisticsRow;
+import com.example.management.repository.projection.TaskStateRow;
+import com.example.management.repository.projection.TaskRow;
+import com.example.management.repository.projection.TaskVersion;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
-    @Query("SELECT t FROM Task t WHERE t.status IN :statuses AND t.priority IN :priorities")
-    Page<Task> findAll(Pageable pageable, @Param("statuses") Set<Status> statuses,
-                       @Param("priorities") Set<Priority> priorities);
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
+    String STREAM_FETCH_SIZE = "500";
+
+    @Transactional(readOnly = true)
+    @Query("SELECT t.id FROM Task t " +
+            "WHERE t.id > :afterId AND t.status IN :statuses AND t.priority IN :priorities ORDER BY t.id")
+    List<Long> findIds(@Param("afterId") long afterId, @Param("statuses") Set<Status> statuses,
+                       @Param("priorities") Set<Priority> priorities, Pageable pageable);
 
 //    @Query(value = "SELECT u.authorTasks FROM User u JOIN Task t ON u = t.author " +
 //            "WHERE u.email = :email AND t.status IN :statuses AND t.priority IN :priorities",
 //            countQuery = "SELECT COUNT(u.authorTasks) FROM User u JOIN Task t ON u = t.author " +
 //                    "WHERE u.email = :email AND t.status IN :statuses AND t.priority IN :priorities")
-    @Query(value = "SELECT t FROM User u JOIN u.authorTasks t " +
-            "WHERE u.email = :email AND t.status IN :statuses AND t.priority IN :priorities")
-    Page<Task> findAllByAuthorEmail(@Param("email") String email, Pageable pageable,
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT t.id FROM User u JOIN u.authorTasks t " +
+            "WHERE u.email = :email AND t.id > :afterId " +
+            "AND t.status IN :statuses AND t.priority IN :priorities ORDER BY t.id")
+    List<Long> findIdsByAuthorEmail(@Param("email") String email, @Param("afterId") long afterId,
                                     @Param("statuses") Set<Status> statuses,
-                                    @Param("priorities") Set<Priority> priorities);
+                                    @Param("priorities") Set<Priority> priorities, Pageable pageable);
 
     @Transactional(readOnly = true)
-    @Query("SELECT t FROM User u JOIN u.executorTasks t " +
-            "WHERE u.email = :email AND t.status IN :statuses AND t.priority IN :priorities")
-    Page<Task> findAllByExecutorEmail(@Param("email") String email, Pageable pageable,
+    @Query("SELECT t.id FROM User u JOIN u.executorTasks t " +
+            "WHERE u.email = :email AND t.id > :afterId " +
+            "AND t.status IN :statuses AND t.priority IN :priorities ORDER BY t.id")
+    List<Long> findIdsByExecutorEmail(@Param("email") String email, @Param("afterId") long afterId,
                                       @Param("statuses") Set<Status> statuses,
-                                      @Param("priorities") Set<Priority> priorities);
+                                      @Param("priorities") Set<Priority> priorities, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.example.management.repository.projection.TaskRow(" +
+            "t.id, t.name, t.description, t.status, t.priority, a.email, t.version) " +
+            "FROM Task t JOIN t.author a WHERE t.id IN :ids")
+    List<TaskRow> findTaskRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.example.management.repository.projection.TaskVersion(t.id, t.version) " +
+            "FROM Task t WHERE t.id IN :ids")
+    List<TaskVersion> findVersionsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.example.management.repository.projection.ExecutorRow(t.id, e.email) " +
+            "FROM Task t JOIN t.executors e WHERE t.id IN :ids")
+    List<ExecutorRow> findExecutorRowsByTaskIdIn(@Param("ids") Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT new com.example.management.repository.projection.TaskRow(" +
+            "t.id, t.name, t.description, t.status, t.priority, a.email, t.version) " +
+            "FROM Task t JOIN t.author a " +
+            "WHERE t.status IN :statuses AND t.priority IN :priorities ORDER BY t.id")
+    Stream<TaskRow> streamTaskRows(@Param("statuses") Set<Status> statuses,
+                                   @Param("priorities") Set<Priority> priorities);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT new com.example.management.repository.projection.TaskRow(" +
+            "t.id, t.name, t.description, t.status, t.priority, a.email, t.version) " +
+            "FROM Task t JOIN t.author a " +
+            "WHERE a.email = :email AND t.status IN :statuses AND t.priority IN :priorities ORDER BY t.id")
+    Stream<TaskRow> streamTaskRowsByAuthorEmail(@Param("email") String email,
+                                                @Param("statuses") Set<Status> statuses,
+                                                @Param("priorities") Set<Priority> priorities);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT new com.example.management.repository.projection.TaskRow(" +
+            "t.id, t.name, t.description, t.status, t.priority, a.email, t.version) " +
+            "FROM Task t JOIN t.author a JOIN t.executors e " +
+            "WHERE e.email = :email AND t.status IN :statuses AND t.priority IN :priorities ORDER BY t.id")
+    Stream<TaskRow> streamTaskRowsByExecutorEmail(@Param("email") String email,
+                                                  @Param("statuses") Set<Status> statuses,
+                                                  @Param("priorities") Set<Priority> priorities);
+
+    @Transactional(readOnly = true)
+    @Query(value = "WITH q AS (SELECT websearch_to_tsquery('english', :query) AS query) " +
+            "SELECT m.id FROM (" +
+            "SELECT t.id, ts_rank(t.search_vector, q.query) AS rank FROM tasks t, q " +
+            "WHERE t.search_vector @@ q.query " +
+            "UNION ALL " +
+            "SELECT c.task_id, ts_rank(c.search_vector, q.query) FROM comments c, q " +
+            "WHERE c.search_vector @@ q.query" +
+            ") m GROUP BY m.id ORDER BY max(m.rank) DESC, m.id LIMIT :limit OFFSET :offset",
+            nativeQuery = true)
+    List<Long> searchIds(@Param("query") String query, @Param("limit") int limit, @Param("offset") long offset);
+
+    @Transactional(readOnly = true)
+    @EntityGraph(attributePaths = {"author", "executors"})
+    Optional<Task> findWithAuthorAndExecutorsByName(String name);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.example.management.repository.projection.TaskVersion(t.id, t.version) " +
+            "FROM Task t WHERE t.name = :name")
+    Optional<TaskVersion> findVersionByName(@Param("name") String name);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Task t SET t.version = t.version + 1 WHERE t.id = :id")
+    int incrementVersion(@Param("id") Long id);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE Task t SET t.version = t.version + 1 WHERE t.id IN :ids")
+    int incrementVersions(@Param("ids") Collection<Long> ids);
 
     @Transactional
-    int deleteByName(String name);
+    @Modifying
+    @Query(value = "INSERT INTO executors_tasks (task_id, executor_id) " +
+            "SELECT :taskId, u.id FROM users u WHERE u.email IN :emails AND NOT EXISTS (" +
+            "SELECT 1 FROM executors_tasks et WHERE et.task_id = :taskId AND et.executor_id = u.id)",
+            nativeQuery = true)
+    int addExecutors(@Param("taskId") Long taskId, @Param("emails") Collection<String> emails);
 
     @Transactional(readOnly = true)
     boolean existsByName(String name);
 
+    @Transactional(readOnly = true)
+    @Query("SELECT t.name FROM Task t WHERE t.name IN :names")
+    Set<String> findNamesByNameIn(@Param("names") Collection<String> names);
+
     @Transactional(readOnly = true)
     Optional<Task> findByName(String name);
 
     @Transactional(readOnly = true)
-    @Query("SELECT COUNT(e) = 1 FROM Task t JOIN t.executors e WHERE t.name = :taskName AND e.email = :executorEmail")
-    boolean isTaskExecutor(@Param("taskName") String taskName, @Param("executorEmail") String executorEmail);
+    @Query("SELECT new com.example.management.repository.projection.TaskStateRow(" +
+            "t.id, t.version, t.status, t.priority, a.id, a.email, e.email) " +
+            "FROM Task t JOIN t.author a LEFT JOIN t.executors e WHERE t.name = :name")
+    List<TaskStateRow> findStateRowsByName(@Param("name") String name);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.example.management.repository.projection.StatisticsRow(" +
+            "a.email, t.status, t.priority, COUNT(t)) " +
+            "FROM Task t JOIN t.author a GROUP BY a.email, t.status, t.priority")
+    List<StatisticsRow> countByAuthor();
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.example.management.repository.projection.StatisticsRow(" +
+            "e.email, t.status, t.priority, COUNT(t)) " +
+            "FROM Task t JOIN t.executors e GROUP BY e.email, t.status, t.priority")
+    List<StatisticsRow> countByExecutor();
 }
@@ -0,0 +1,10 @@
+package com.example.management.repository;
+
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+
+public interface TaskRepositoryCustom {
+    int deleteIfAllowed(Long id, Long version, String authorEmail);
+
+    int updateIfAllowed(Long id, Long version, String requesterEmail, Status status, Priority priority);
+}
@@ -0,0 +1,63 @@
+package com.example.management.repository;
+
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+public class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    private static final String IS_AUTHOR = "t.author.id IN (SELECT u.id FROM User u WHERE u.email = :email)";
+    private static final String IS_EXECUTOR = "EXISTS (SELECT e.id FROM Task x JOIN x.executors e " +
+            "WHERE x.id = t.id AND e.email = :email)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public int deleteIfAllowed(Long id, Long version, String authorEmail) {
+        String jpql = "DELETE FROM Task t WHERE t.id = :id AND " + IS_AUTHOR + versionCondition(version);
+        return createQuery(jpql, id, version, authorEmail).executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int updateIfAllowed(Long id, Long version, String requesterEmail, Status status, Priority priority) {
+        StringBuilder jpql = new StringBuilder("UPDATE Task t SET t.version = t.version + 1");
+        if (status != null) {
+            jpql.append(", t.status = :status");
+        }
+        if (priority != null) {
+            jpql.append(", t.priority = :priority");
+        }
+        jpql.append(" WHERE t.id = :id AND ")
+                .append(priority != null ? IS_AUTHOR : "(" + IS_AUTHOR + " OR " + IS_EXECUTOR + ")")
+                .append(versionCondition(version));
+
+        Query query = createQuery(jpql.toString(), id, version, requesterEmail);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (priority != null) {
+            query.setParameter("priority", priority);
+        }
+        return query.executeUpdate();
+    }
+
+    // the version only takes part when the client sent If-Match
+    private String versionCondition(Long version) {
+        return version != null ? " AND t.version = :version" : "";
+    }
+
+    private Query createQuery(String jpql, Long id, Long version, String email) {
+        Query query = entityManager.createQuery(jpql)
+                .setParameter("id", id)
+                .setParameter("email", email);
+        if (version != null) {
+            query.setParameter("version", version);
+        }
+        return query;
+    }
+}
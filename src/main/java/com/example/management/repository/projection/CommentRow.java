@@ -0,0 +1,4 @@
+package com.example.management.repository.projection;
+
+public record CommentRow(Long id, Long taskId, String authorEmail, String text) {
+}
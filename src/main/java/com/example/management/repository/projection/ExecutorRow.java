@@ -0,0 +1,4 @@
+package com.example.management.repository.projection;
+
+public record ExecutorRow(Long taskId, String email) {
+}
@@ -0,0 +1,4 @@
+package com.example.management.repository.projection;
+
+public record NewCommentRow(Long taskId, Long authorId, String text) {
+}
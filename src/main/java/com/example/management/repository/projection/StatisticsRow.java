@@ -0,0 +1,7 @@
+package com.example.management.repository.projection;
+
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+
+public record StatisticsRow(String email, Status status, Priority priority, Long count) {
+}
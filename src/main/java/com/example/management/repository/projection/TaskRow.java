@@ -0,0 +1,8 @@
+package com.example.management.repository.projection;
+
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+
+public record TaskRow(Long id, String name, String description, Status status, Priority priority,
+                      String authorEmail, Long version) {
+}
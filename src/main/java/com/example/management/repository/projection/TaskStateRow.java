@@ -0,0 +1,8 @@
+package com.example.management.repository.projection;
+
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+
+public record TaskStateRow(Long id, Long version, Status status, Priority priority, Long authorId,
+                           String authorEmail, String executorEmail) {
+}
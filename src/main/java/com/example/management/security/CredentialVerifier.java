@@ -0,0 +1,86 @@
+package com.example.management.security;
+
+import com.example.management.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+public class CredentialVerifier {
+    private PasswordEncoder passwordEncoder;
+    private ThreadPoolExecutor executor;
+    private Duration timeout;
+    private Counter rejected;
+
+    @Autowired
+    public CredentialVerifier(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+                              @Value("${security.password.verifier.threads:2}") int threads,
+                              @Value("${security.password.verifier.queue-capacity:64}") int queueCapacity,
+                              @Value("${security.password.verifier.timeout:5s}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("credential-verifier-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder("auth.password.queued", executor.getQueue(), BlockingQueue::size)
+                .description("Passwords waiting to be verified")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.rejected")
+                .description("Logins refused because too many passwords were waiting to be verified")
+                .register(meterRegistry);
+    }
+
+    // returns the hash to store instead when the stored one is not of the current encoding and cost, null otherwise
+    public String verify(String password, String storedHash) {
+        Future<String> verification;
+        try {
+            verification = executor.submit(() -> {
+                if (!passwordEncoder.matches(password, storedHash)) {
+                    throw new BadCredentialsException("Wrong password");
+                }
+                return passwordEncoder.upgradeEncoding(storedHash) ? passwordEncoder.encode(password) : null;
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ServiceOverloadedException("Too many logins are waiting to be verified");
+        }
+
+        try {
+            return verification.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            verification.cancel(true);
+            throw new ServiceOverloadedException("The password was not verified in time");
+        } catch (InterruptedException e) {
+            verification.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceOverloadedException("The password was not verified in time");
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.management.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class PrincipalCache {
+    private UserDetailsService userDetailsService;
+    private Cache<String, UserDetails> principals;
+
+    @Autowired
+    public PrincipalCache(UserDetailsService userDetailsService, MeterRegistry meterRegistry,
+                          @Value("${security.principal.cache.maximum-size:10000}") long maximumSize,
+                          @Value("${security.principal.cache.ttl:5m}") Duration ttl) {
+        this.userDetailsService = userDetailsService;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, principals, "principals");
+    }
+
+    public UserDetails get(String username) {
+        UserDetails principal = principals.getIfPresent(username);
+        if (principal == null) {
+            principal = toPrincipal(userDetailsService.loadUserByUsername(username));
+            principals.put(username, principal);
+        }
+        return principal;
+    }
+
+    public static UserDetails fromUsername(String username) {
+        return User.withUsername(username)
+                .password("")
+                .authorities(new String[0])
+                .build();
+    }
+
+    private static UserDetails toPrincipal(UserDetails user) {
+        return User.withUsername(user.getUsername())
+                .password("")
+                .authorities(user.getAuthorities())
+                .build();
+    }
+}
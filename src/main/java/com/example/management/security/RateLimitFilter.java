@@ -0,0 +1,129 @@
+package com.example.management.security;
+
+import com.example.management.dto.ErrorResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private boolean enabled;
+    private Budget reads;
+    private Budget writes;
+    private Cache<String, Buckets> buckets;
+    private ObjectWriter errorWriter;
+
+    @Autowired
+    public RateLimitFilter(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                           @Value("${security.rate-limit.enabled:true}") boolean enabled,
+                           @Value("${security.rate-limit.reads.per-second:50}") double readsPerSecond,
+                           @Value("${security.rate-limit.reads.burst:100}") int readBurst,
+                           @Value("${security.rate-limit.writes.per-second:10}") double writesPerSecond,
+                           @Value("${security.rate-limit.writes.burst:20}") int writeBurst,
+                           @Value("${security.rate-limit.maximum-users:100000}") long maximumUsers,
+                           @Value("${security.rate-limit.idle-timeout:10m}") Duration idleTimeout) {
+        this.enabled = enabled;
+        this.reads = new Budget(readsPerSecond, readBurst, meterRegistry, "read");
+        this.writes = new Budget(writesPerSecond, writeBurst, meterRegistry, "write");
+        // an evicted user comes back with a full bucket, which an idle one would have refilled to anyway
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumUsers)
+                .expireAfterAccess(idleTimeout)
+                .build();
+        this.errorWriter = objectMapper.writerFor(ErrorResponseDto.class);
+        Gauge.builder("security.rate-limit.users", buckets, Cache::estimatedSize)
+                .description("Users with a rate limit bucket")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (!enabled || authentication == null || !authentication.isAuthenticated()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Buckets userBuckets = buckets.get(authentication.getName(), name -> new Buckets());
+        boolean read = isRead(request.getMethod());
+        long wait = read ? reads.acquire(userBuckets.reads) : writes.acquire(userBuckets.writes);
+        if (wait > 0) {
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString((wait + SECOND - 1) / SECOND));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            errorWriter.writeValue(response.getOutputStream(), new ErrorResponseDto("Too many requests, retry later"));
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private static boolean isRead(String method) {
+        return HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method);
+    }
+
+    private static class Buckets {
+        // theoretical arrival time of the next request in nanoTime, a bucket is full whenever it lies in the past
+        private final AtomicLong reads = new AtomicLong(Long.MIN_VALUE);
+        private final AtomicLong writes = new AtomicLong(Long.MIN_VALUE);
+    }
+
+    // a token bucket kept as a single timestamp (generic cell rate algorithm), so it is taken with one compare-and-set
+    private static class Budget {
+        private final long interval;
+        private final long tolerance;
+        private final Counter rejected;
+
+        Budget(double perSecond, int burst, MeterRegistry meterRegistry, String kind) {
+            this.interval = (long) (SECOND / perSecond);
+            this.tolerance = interval * burst;
+            this.rejected = Counter.builder("security.rate-limit.rejected")
+                    .description("Requests answered with 429 because the user ran out of budget")
+                    .tag("kind", kind)
+                    .register(meterRegistry);
+        }
+
+        // nanoseconds until a request would be admitted, 0 if this one is
+        long acquire(AtomicLong bucket) {
+            long now = System.nanoTime();
+            while (true) {
+                long arrival = bucket.get();
+                long next = (arrival == Long.MIN_VALUE || arrival - now < 0 ? now : arrival) + interval;
+                long wait = next - now - tolerance;
+                if (wait > 0) {
+                    rejected.increment();
+                    return wait;
+                }
+                if (bucket.compareAndSet(arrival, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -2,8 +2,9 @@ package com.example.management.service;
 
 import com.example.management.model.User;
 import com.example.management.repository.UserRepository;
+import com.example.management.security.CredentialVerifier;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
@@ -11,20 +12,25 @@ import org.springframework.stereotype.Service;
 public class AuthenticationService {
     private UserRepository userRepository;
     private JwtService jwtService;
+    private CredentialVerifier credentialVerifier;
 
     @Autowired
-    public AuthenticationService(UserRepository userRepository, JwtService jwtService) {
+    public AuthenticationService(UserRepository userRepository, JwtService jwtService,
+                                 CredentialVerifier credentialVerifier) {
         this.userRepository = userRepository;
         this.jwtService = jwtService;
+        this.credentialVerifier = credentialVerifier;
     }
 
+    @Timed(value = "auth.login", percentiles = {0.5, 0.95, 0.99})
     public String login(String email, String password) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User " + email + " is not found"));
-        if (user.getPassword().equals(password)) {
-            return jwtService.generateToken(user);
-        } else {
-            throw new BadCredentialsException("Wrong password");
+        String rehashed = credentialVerifier.verify(password, user.getPassword());
+        if (rehashed != null) {
+            // a concurrent login may have rehashed it already, then this one changes nothing
+            userRepository.updatePassword(user.getId(), user.getPassword(), rehashed);
         }
+        return jwtService.generateToken(user);
     }
 }
@@ -0,0 +1,23 @@
+package com.example.management.service;
+
+import com.example.management.dto.CommentResponseDto;
+
+import java.util.List;
+
+public class CommentPage {
+    private final List<CommentResponseDto> comments;
+    private final String nextCursor;
+
+    public CommentPage(List<CommentResponseDto> comments, String nextCursor) {
+        this.comments = comments;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<CommentResponseDto> getComments() {
+        return comments;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.management.service;
+
+import com.example.management.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class CommentWriteBehind {
+    private static final Logger log = LoggerFactory.getLogger(CommentWriteBehind.class);
+
+    private TaskService taskService;
+    private BlockingQueue<PendingComment> queue;
+    private int batchSize;
+    private Duration linger;
+    private Thread writer;
+    private volatile boolean accepting = true;
+    // submitters check accepting and offer under the read lock, close() stops accepting under the write lock
+    private ReadWriteLock acceptLock = new ReentrantReadWriteLock();
+    private Counter written;
+    private Counter rejected;
+    private Counter lost;
+
+    @Autowired
+    public CommentWriteBehind(TaskService taskService, MeterRegistry meterRegistry,
+                              @Value("${tasks.comments.write-behind.capacity:10000}") int capacity,
+                              @Value("${tasks.comments.write-behind.batch-size:500}") int batchSize,
+                              @Value("${tasks.comments.write-behind.linger:20ms}") Duration linger) {
+        this.taskService = taskService;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.linger = linger;
+        Gauge.builder("tasks.comments.queued", queue, BlockingQueue::size)
+                .description("Accepted comments not yet written to the database")
+                .register(meterRegistry);
+        this.written = Counter.builder("tasks.comments.written")
+                .description("Accepted comments written to the database")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("tasks.comments.rejected")
+                .description("Comments refused because the queue was full")
+                .register(meterRegistry);
+        this.lost = Counter.builder("tasks.comments.lost")
+                .description("Accepted comments that could not be written")
+                .register(meterRegistry);
+        this.writer = new Thread(this::write, "comment-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    public void submit(String taskName, String text) {
+        if (!accepting) {
+            throw new ServiceOverloadedException("The service is shutting down");
+        }
+        // the task is looked up here so that a missing task is still answered with 400, not lost later
+        PendingComment comment = taskService.prepareComment(taskName, text);
+        acceptLock.readLock().lock();
+        try {
+            if (!accepting) {
+                throw new ServiceOverloadedException("The service is shutting down");
+            }
+            if (!queue.offer(comment)) {
+                rejected.increment();
+                throw new ServiceOverloadedException("Too many comments are waiting to be written");
+            }
+        } finally {
+            acceptLock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        acceptLock.writeLock().lock();
+        try {
+            accepting = false;
+        } finally {
+            acceptLock.writeLock().unlock();
+        }
+        writer.join();
+        // nothing is offered any more, this drains what the writer left when it was interrupted
+        List<PendingComment> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        flush(rest);
+    }
+
+    private void write() {
+        List<PendingComment> batch = new ArrayList<>(batchSize);
+        while (accepting || !queue.isEmpty()) {
+            try {
+                PendingComment first = queue.poll(linger.toNanos(), TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + linger.toNanos();
+                while (batch.size() < batchSize) {
+                    PendingComment next = queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                accepting = false;
+                queue.drainTo(batch);
+                flush(batch);
+                return;
+            }
+            flush(batch);
+            batch.clear();
+        }
+    }
+
+    private void flush(List<PendingComment> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        for (int from = 0; from < batch.size(); from += batchSize) {
+            List<PendingComment> chunk = batch.subList(from, Math.min(from + batchSize, batch.size()));
+            try {
+                taskService.addComments(chunk);
+                written.increment(chunk.size());
+            } catch (RuntimeException e) {
+                // a task deleted since the comment was accepted fails the whole batch, retry one by one
+                chunk.forEach(this::flushOne);
+            }
+        }
+    }
+
+    private void flushOne(PendingComment comment) {
+        try {
+            taskService.addComments(List.of(comment));
+            written.increment();
+        } catch (RuntimeException e) {
+            lost.increment();
+            log.warn("Dropped an accepted comment of task {}", comment.getTask().getName(), e);
+        }
+    }
+}
@@ -1,20 +1,34 @@
 package com.example.management.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Service;
 
+import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
-import java.security.Key;
 import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class JwtService {
     private static final String SECRET_KEY = "42604835656C523E383B7932676425653B3D584149494944533E77452D553865";
+    private static final SecretKey KEY = Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+    private static final long EXPIRATION_MILLIS = 1000 * 3600;
+    private static final long VERIFIED_TOKENS_CACHE_SIZE = 10_000;
+
+    private final JwtParser parser = Jwts.parser()
+            .verifyWith(KEY)
+            .build();
+
+    private final Cache<String, Claims> verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(VERIFIED_TOKENS_CACHE_SIZE)
+            .expireAfter(new UntilTokenExpiration())
+            .build();
 
     public String generateToken(UserDetails userDetails) {
         long now = System.currentTimeMillis();
@@ -22,37 +36,58 @@ public class JwtService {
 //                .setClaims()
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(now))
-                .setExpiration(new Date(now + 1000 * 3600))
-                .signWith(getSecretKey(), SignatureAlgorithm.HS256)
+                .setExpiration(new Date(now + EXPIRATION_MILLIS))
+                .signWith(KEY, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public boolean isTokenValid(String token) {
+    public Optional<Claims> extractVerifiedClaims(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        Claims claims = verifiedTokens.getIfPresent(token);
+        if (claims != null) {
+            return Optional.of(claims);
+        }
+
         try {
-            if (token != null) {
-                extractClaims(token);
-                return true;
-            }
-        } catch (RuntimeException ignored) {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (RuntimeException e) {
+            return Optional.empty();
         }
+        verifiedTokens.put(token, claims);
+        return Optional.of(claims);
+    }
 
-        return false;
+    public boolean isTokenValid(String token) {
+        return extractVerifiedClaims(token).isPresent();
     }
 
     public String extractUsername(String token) {
-        Claims claims = extractClaims(token);
-        return claims.getSubject();
+        return extractVerifiedClaims(token)
+                .orElseThrow(() -> new MalformedJwtException("Invalid token"))
+                .getSubject();
     }
 
-    private Claims extractClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSecretKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
+    private static class UntilTokenExpiration implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String token, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            long millis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(millis, 0));
+        }
 
-    private static Key getSecretKey() {
-        return Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8));
+        @Override
+        public long expireAfterUpdate(String token, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
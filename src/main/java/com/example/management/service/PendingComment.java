@@ -0,0 +1,31 @@
+package com.example.management.service;
+
+public class PendingComment {
+    private final Long taskId;
+    private final Long authorId;
+    private final String text;
+    private final TaskSnapshot task;
+
+    public PendingComment(Long taskId, Long authorId, String text, TaskSnapshot task) {
+        this.taskId = taskId;
+        this.authorId = authorId;
+        this.text = text;
+        this.task = task;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public Long getAuthorId() {
+        return authorId;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    public TaskSnapshot getTask() {
+        return task;
+    }
+}
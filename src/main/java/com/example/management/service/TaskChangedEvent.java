@@ -0,0 +1,37 @@
+package com.example.management.service;
+
+public class TaskChangedEvent {
+    public enum Type {
+        CREATED,
+        UPDATED,
+        COMMENTED,
+        EXECUTORS_ADDED,
+        DELETED
+    }
+
+    private final Type type;
+    private final TaskSnapshot before;
+    private final TaskSnapshot after;
+
+    public TaskChangedEvent(Type type, TaskSnapshot before, TaskSnapshot after) {
+        this.type = type;
+        this.before = before;
+        this.after = after;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getTaskName() {
+        return after != null ? after.getName() : before.getName();
+    }
+
+    public TaskSnapshot getBefore() {
+        return before;
+    }
+
+    public TaskSnapshot getAfter() {
+        return after;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.management.service;
+
+import com.example.management.dto.TaskResponseDto;
+
+import java.util.List;
+
+public class TaskPage {
+    private final List<TaskResponseDto> tasks;
+    private final String nextCursor;
+    private final String versionTag;
+
+    public TaskPage(List<TaskResponseDto> tasks, String nextCursor, String versionTag) {
+        this.tasks = tasks;
+        this.nextCursor = nextCursor;
+        this.versionTag = versionTag;
+    }
+
+    public List<TaskResponseDto> getTasks() {
+        return tasks;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public String getVersionTag() {
+        return versionTag;
+    }
+
+    // the client's copy is current, no tasks were read
+    public boolean isNotModified() {
+        return tasks == null;
+    }
+}
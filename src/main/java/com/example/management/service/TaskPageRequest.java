@@ -0,0 +1,34 @@
+package com.example.management.service;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+public class TaskPageRequest {
+    private final long afterId;
+    private final Pageable pageable;
+
+    private TaskPageRequest(long afterId, Pageable pageable) {
+        this.afterId = afterId;
+        this.pageable = pageable;
+    }
+
+    public static TaskPageRequest ofPage(int pageNumber, int size) {
+        return new TaskPageRequest(0, PageRequest.of(pageNumber, size));
+    }
+
+    public static TaskPageRequest afterCursor(String cursor, int size) {
+        return new TaskPageRequest(CursorCodec.decode(cursor), PageRequest.of(0, size));
+    }
+
+    public long getAfterId() {
+        return afterId;
+    }
+
+    public Pageable getPageable() {
+        return pageable;
+    }
+
+    public int getSize() {
+        return pageable.getPageSize();
+    }
+}
@@ -1,36 +1,58 @@
 package com.example.management.service;
 
 import com.example.management.exception.NoAuthorityException;
+import com.example.management.exception.PreconditionFailedException;
 import com.example.management.exception.TaskDuplicateException;
 import com.example.management.exception.TaskNotFoundException;
+import com.example.management.dto.BatchItemResponseDto;
 import com.example.management.dto.CommentResponseDto;
 import com.example.management.dto.TaskCreationRequestDto;
+import com.example.management.dto.TaskField;
+import com.example.management.dto.TaskProjectionResponseDto;
 import com.example.management.dto.TaskResponseDto;
 import com.example.management.model.*;
+import com.example.management.repository.CommentRepository;
 import com.example.management.repository.TaskRepository;
 import com.example.management.repository.UserRepository;
+import com.example.management.repository.projection.CommentRow;
+import com.example.management.repository.projection.ExecutorRow;
+import com.example.management.repository.projection.NewCommentRow;
+import com.example.management.repository.projection.TaskStateRow;
+import com.example.management.repository.projection.TaskRow;
+import com.example.management.repository.projection.TaskVersion;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Set;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = "task.service", percentiles = {0.5, 0.95, 0.99})
 public class TaskService {
+    private static final int EXPORT_CHUNK_SIZE = 500;
+
     private TaskRepository taskRepository;
     private UserRepository userRepository;
+    private CommentRepository commentRepository;
+    private ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public TaskService(TaskRepository taskRepository, UserRepository userRepository) {
+    public TaskService(TaskRepository taskRepository, UserRepository userRepository,
+                       CommentRepository commentRepository, ApplicationEventPublisher eventPublisher) {
         this.taskRepository = taskRepository;
         this.userRepository = userRepository;
+        this.commentRepository = commentRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -46,111 +68,426 @@ public class TaskService {
         task.setDescription(request.getDescription());
         task.setStatus(request.getStatus());
         task.setPriority(request.getPriority());
-        request.getExecutors().stream()
-                .map(e -> userRepository.findByEmail(e).orElseThrow(() -> usernameNotFoundException(e)))
-                .forEach(task::addExecutors);
+        findUsersByEmails(request.getExecutors()).forEach(task::addExecutors);
 
         taskRepository.save(task);
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.CREATED, null, snapshot(task)));
     }
 
     @Transactional
-    public void deleteTask(String requestInitializerEmail, String taskName) {
-        String authorEmail = taskRepository.findByName(taskName)
-                .orElseThrow(() -> taskNotFoundException(taskName)).getAuthor().getEmail();
-        if (!authorEmail.equals(requestInitializerEmail)) {
+    public List<BatchItemResponseDto> createTasks(List<TaskCreationRequestDto> requests, String authorEmail) {
+        User author = userRepository.findByEmail(authorEmail).get();
+        Set<String> existingNames = taskRepository.findNamesByNameIn(requests.stream()
+                .map(TaskCreationRequestDto::getName).collect(Collectors.toSet()));
+        Map<String, User> executors = userRepository.findAllByEmailIn(requests.stream()
+                        .flatMap(r -> r.getExecutors().stream()).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(User::getEmail, Function.identity()));
+
+        List<BatchItemResponseDto> results = new ArrayList<>();
+        List<Task> tasks = new ArrayList<>();
+        Set<String> batchNames = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            TaskCreationRequestDto request = requests.get(i);
+            List<String> unknownExecutors = request.getExecutors().stream()
+                    .filter(e -> !executors.containsKey(e)).distinct().collect(Collectors.toList());
+            String error = null;
+            if (existingNames.contains(request.getName())) {
+                error = "Task '" + request.getName() + "' already exists";
+            } else if (batchNames.contains(request.getName())) {
+                error = "Task '" + request.getName() + "' is repeated in the batch";
+            } else if (!unknownExecutors.isEmpty()) {
+                error = "Users " + unknownExecutors + " are not found";
+            }
+            if (error != null) {
+                results.add(new BatchItemResponseDto(i, request.getName(), false, error));
+                continue;
+            }
+
+            Task task = new Task();
+            task.setAuthor(author);
+            task.setName(request.getName());
+            task.setDescription(request.getDescription());
+            task.setStatus(request.getStatus());
+            task.setPriority(request.getPriority());
+            request.getExecutors().stream().map(executors::get).forEach(task::addExecutors);
+            tasks.add(task);
+            batchNames.add(request.getName());
+            results.add(new BatchItemResponseDto(i, request.getName(), true, null));
+        }
+
+        taskRepository.saveAll(tasks);
+        tasks.forEach(t -> eventPublisher.publishEvent(
+                new TaskChangedEvent(TaskChangedEvent.Type.CREATED, null, snapshot(t))));
+        return results;
+    }
+
+    @Transactional
+    public void deleteTask(String requestInitializerEmail, String taskName, TaskVersion expectedVersion) {
+        TaskState state = findState(taskName);
+        if (!state.snapshot().getAuthorEmail().equals(requestInitializerEmail)) {
             throw new NoAuthorityException("Only task's author can delete the task");
         }
-        taskRepository.deleteByName(taskName);
+        checkVersion(taskName, state, expectedVersion);
+
+        if (taskRepository.deleteIfAllowed(state.id(), expectedVersion(expectedVersion),
+                requestInitializerEmail) == 0) {
+            throw rejectedWrite(taskName, expectedVersion, "Only task's author can delete the task");
+        }
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.DELETED, state.snapshot(), null));
     }
 
     @Transactional
     public void addComment(String taskName, String text) {
-        Task task = taskRepository.findByName(taskName).orElseThrow(() -> taskNotFoundException(taskName));
-        Comment comment = new Comment();
-        comment.setAuthor(task.getAuthor());
-        comment.setText(text);
-        task.addComments(comment);
-        taskRepository.save(task);
+        addComments(List.of(prepareComment(taskName, text)));
+    }
+
+    @Transactional(readOnly = true)
+    public PendingComment prepareComment(String taskName, String text) {
+        TaskState state = findState(taskName);
+        return new PendingComment(state.id(), state.authorId(), text, state.snapshot());
+    }
+
+    @Transactional
+    public void addComments(List<PendingComment> comments) {
+        commentRepository.insertAll(comments.stream()
+                .map(c -> new NewCommentRow(c.getTaskId(), c.getAuthorId(), c.getText()))
+                .collect(Collectors.toList()));
+        Map<Long, TaskSnapshot> tasks = comments.stream()
+                .collect(Collectors.toMap(PendingComment::getTaskId, PendingComment::getTask, (a, b) -> a));
+        taskRepository.incrementVersions(tasks.keySet());
+        tasks.values().forEach(t -> eventPublisher.publishEvent(
+                new TaskChangedEvent(TaskChangedEvent.Type.COMMENTED, t, t)));
     }
 
     @Transactional
-    public void addExecutor(String requestInitializerEmail, String taskName, String executorEmail) {
-        Task task = taskRepository.findByName(taskName).orElseThrow(() -> taskNotFoundException(taskName));
+    public void addExecutors(String requestInitializerEmail, String taskName, List<String> executorEmails) {
+        if (executorEmails.isEmpty()) {
+            throw new IllegalArgumentException("No executors to add");
+        }
+        Task task = taskRepository.findWithAuthorAndExecutorsByName(taskName)
+                .orElseThrow(() -> taskNotFoundException(taskName));
         if (!task.getAuthor().getEmail().equals(requestInitializerEmail)) {
             throw new NoAuthorityException("Only task's author can add executors");
         }
 
-        User executor = userRepository.findByEmail(executorEmail)
-                .orElseThrow(() -> usernameNotFoundException(executorEmail));
-        task.addExecutors(executor);
-        taskRepository.save(task);
+        findUsersByEmails(executorEmails);
+        if (taskRepository.addExecutors(task.getId(), new HashSet<>(executorEmails)) > 0) {
+            taskRepository.incrementVersion(task.getId());
+            TaskSnapshot before = snapshot(task);
+            Set<String> executors = new LinkedHashSet<>(before.getExecutorEmails());
+            executors.addAll(executorEmails);
+            TaskSnapshot after = new TaskSnapshot(taskName, before.getStatus(), before.getPriority(),
+                    before.getAuthorEmail(), executors);
+            eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.EXECUTORS_ADDED, before, after));
+        }
     }
 
     @Transactional
     public void updateTask(String requestInitializerEmail, String taskName,
-                           Status status, Priority priority) {
-        Task task = taskRepository.findByName(taskName).orElseThrow(() -> taskNotFoundException(taskName));
-        boolean isTaskAuthor = task.getAuthor().getEmail().equals(requestInitializerEmail);
-        if (priority != null) {
-            if (!isTaskAuthor) {
-                throw new NoAuthorityException("Only task's author can update the priority");
-            }
-            task.setPriority(priority);
+                           Status status, Priority priority, TaskVersion expectedVersion) {
+        TaskState state = findState(taskName);
+        TaskSnapshot before = state.snapshot();
+        boolean isTaskAuthor = before.getAuthorEmail().equals(requestInitializerEmail);
+        if (priority != null && !isTaskAuthor) {
+            throw new NoAuthorityException("Only task's author can update the priority");
+        }
+        if (status != null && !isTaskAuthor && !before.getExecutorEmails().contains(requestInitializerEmail)) {
+            throw new NoAuthorityException("Only task's author and executors can update the status");
+        }
+        checkVersion(taskName, state, expectedVersion);
+        if (status == null && priority == null) {
+            return;
         }
 
-        boolean isTaskExecutor = taskRepository.isTaskExecutor(taskName, requestInitializerEmail);
-        if (status != null) {
-            if (!isTaskExecutor && !isTaskAuthor) {
-                throw new NoAuthorityException("Only task's author and executors can update the status");
-            }
-            task.setStatus(status);
+        if (taskRepository.updateIfAllowed(state.id(), expectedVersion(expectedVersion),
+                requestInitializerEmail, status, priority) == 0) {
+            throw rejectedWrite(taskName, expectedVersion, "The task can no longer be updated by the user");
         }
+        TaskSnapshot after = new TaskSnapshot(taskName,
+                status != null ? status : before.getStatus(),
+                priority != null ? priority : before.getPriority(),
+                before.getAuthorEmail(), before.getExecutorEmails());
+        eventPublisher.publishEvent(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED, before, after));
+    }
 
-        taskRepository.save(task);
+    private TaskState findState(String taskName) {
+        List<TaskStateRow> rows = taskRepository.findStateRowsByName(taskName);
+        if (rows.isEmpty()) {
+            throw taskNotFoundException(taskName);
+        }
+        TaskStateRow row = rows.get(0);
+        Set<String> executors = rows.stream()
+                .map(TaskStateRow::executorEmail)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return new TaskState(row.id(), row.version(), row.authorId(),
+                new TaskSnapshot(taskName, row.status(), row.priority(), row.authorEmail(), executors));
+    }
+
+    private void checkVersion(String taskName, TaskState state, TaskVersion expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(new TaskVersion(state.id(), state.version()))) {
+            throw new PreconditionFailedException("Task '" + taskName + "' has been modified");
+        }
+    }
+
+    private TaskSnapshot snapshot(Task task) {
+        return new TaskSnapshot(task.getName(), task.getStatus(), task.getPriority(), task.getAuthor().getEmail(),
+                task.getExecutors().stream().map(User::getEmail).collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
+
+    private Long expectedVersion(TaskVersion expectedVersion) {
+        return expectedVersion != null ? expectedVersion.version() : null;
+    }
+
+    // the row changed between reading and writing it: a stale If-Match, a concurrent delete or lost authority
+    private RuntimeException rejectedWrite(String taskName, TaskVersion expectedVersion, String noAuthorityMessage) {
+        if (expectedVersion != null) {
+            return new PreconditionFailedException("Task '" + taskName + "' has been modified");
+        }
+        if (!taskRepository.existsByName(taskName)) {
+            return taskNotFoundException(taskName);
+        }
+        return new NoAuthorityException(noAuthorityMessage);
     }
 
     @Transactional(readOnly = true)
     public TaskResponseDto getTask(String taskName) {
-        Task task = taskRepository.findByName(taskName).orElseThrow(() -> taskNotFoundException(taskName));
-        return mapToTaskResponseDto(Arrays.asList(task)).get(0);
+        return getVersionedTask(taskName).getTask();
     }
 
     @Transactional(readOnly = true)
-    public List<TaskResponseDto> getTasks(int pageNumber, Set<Status> statuses,
-                                          Set<Priority> priorities) {
-        Page<Task> page = taskRepository
-                .findAll(PageRequest.of(pageNumber, 5), statuses, priorities);
-        return mapToTaskResponseDto(page.getContent());
+    public VersionedTask getVersionedTask(String taskName) {
+        Task task = taskRepository.findWithAuthorAndExecutorsByName(taskName)
+                .orElseThrow(() -> taskNotFoundException(taskName));
+        Map<Long, List<Comment>> comments = findCommentsByTaskIds(List.of(task.getId()));
+        return new VersionedTask(mapToTaskResponseDto(List.of(task), comments).get(0),
+                new TaskVersion(task.getId(), task.getVersion()));
+    }
+
+    public TaskVersion getTaskVersion(String taskName) {
+        return taskRepository.findVersionByName(taskName).orElseThrow(() -> taskNotFoundException(taskName));
     }
 
     @Transactional(readOnly = true)
-    public List<TaskResponseDto> getTasksByAuthorEmail(String email, int pageNumber,
-                                                       Set<Status> statuses, Set<Priority> priorities) {
+    public TaskPage getTasks(TaskPageRequest pageRequest, Set<Status> statuses, Set<Priority> priorities,
+                             Set<TaskField> fields) {
+        return getTasks(pageRequest, statuses, priorities, fields, null);
+    }
+
+    // notModified is asked with the page's version tag before the tasks are read, null to always read them
+    @Transactional(readOnly = true)
+    public TaskPage getTasks(TaskPageRequest pageRequest, Set<Status> statuses, Set<Priority> priorities,
+                             Set<TaskField> fields, Predicate<String> notModified) {
+        List<Long> ids = taskRepository.findIds(pageRequest.getAfterId(), statuses, priorities,
+                pageRequest.getPageable());
+        return toTaskPage(ids, pageRequest, fields, notModified);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPage getTasksByAuthorEmail(String email, TaskPageRequest pageRequest,
+                                          Set<Status> statuses, Set<Priority> priorities, Set<TaskField> fields) {
+        return getTasksByAuthorEmail(email, pageRequest, statuses, priorities, fields, null);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPage getTasksByAuthorEmail(String email, TaskPageRequest pageRequest, Set<Status> statuses,
+                                          Set<Priority> priorities, Set<TaskField> fields,
+                                          Predicate<String> notModified) {
         if (!userRepository.existsByEmail(email)) {
             throw usernameNotFoundException(email);
         }
-        Page<Task> page = taskRepository
-                .findAllByAuthorEmail(email, PageRequest.of(pageNumber, 5), statuses, priorities);
-        return mapToTaskResponseDto(page.getContent());
+        List<Long> ids = taskRepository.findIdsByAuthorEmail(email, pageRequest.getAfterId(),
+                statuses, priorities, pageRequest.getPageable());
+        return toTaskPage(ids, pageRequest, fields, notModified);
     }
 
     @Transactional(readOnly = true)
-    public List<TaskResponseDto> getTasksByExecutorEmail(String email, int pageNumber,
-                                                         Set<Status> statuses, Set<Priority> priorities) {
+    public TaskPage getTasksByExecutorEmail(String email, TaskPageRequest pageRequest,
+                                            Set<Status> statuses, Set<Priority> priorities, Set<TaskField> fields) {
+        return getTasksByExecutorEmail(email, pageRequest, statuses, priorities, fields, null);
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPage getTasksByExecutorEmail(String email, TaskPageRequest pageRequest, Set<Status> statuses,
+                                            Set<Priority> priorities, Set<TaskField> fields,
+                                            Predicate<String> notModified) {
         if (!userRepository.existsByEmail(email)) {
             throw usernameNotFoundException(email);
         }
-        Page<Task> page = taskRepository
-                .findAllByExecutorEmail(email, PageRequest.of(pageNumber, 5), statuses, priorities);
-        return mapToTaskResponseDto(page.getContent());
+        List<Long> ids = taskRepository.findIdsByExecutorEmail(email, pageRequest.getAfterId(),
+                statuses, priorities, pageRequest.getPageable());
+        return toTaskPage(ids, pageRequest, fields, notModified);
     }
 
-    private List<TaskResponseDto> mapToTaskResponseDto(List<Task> tasks) {
+    @Transactional(readOnly = true)
+    public List<TaskResponseDto> searchTasks(String query, int pageNumber, int size, Set<TaskField> fields) {
+        List<Long> ids = taskRepository.searchIds(query, size, (long) pageNumber * size);
+        return assembleTaskResponseDtos(findOrderedTaskRows(ids), fields);
+    }
+
+    @Transactional(readOnly = true)
+    public CommentPage getComments(String taskName, TaskPageRequest pageRequest) {
+        List<CommentRow> rows = commentRepository.findRowsByTaskName(taskName, pageRequest.getAfterId(),
+                pageRequest.getPageable());
+        if (rows.isEmpty() && !taskRepository.existsByName(taskName)) {
+            throw taskNotFoundException(taskName);
+        }
+        String nextCursor = rows.size() < pageRequest.getSize() ? null
+                : CursorCodec.encode(rows.get(rows.size() - 1).id());
+        List<CommentResponseDto> comments = rows.stream()
+                .map(c -> new CommentResponseDto(c.authorEmail(), c.text()))
+                .collect(Collectors.toList());
+        return new CommentPage(comments, nextCursor);
+    }
+
+    private TaskPage toTaskPage(List<Long> ids, TaskPageRequest pageRequest, Set<TaskField> fields,
+                                Predicate<String> notModified) {
+        String nextCursor = ids.size() < pageRequest.getSize() ? null : CursorCodec.encode(ids.get(ids.size() - 1));
+        if (notModified != null) {
+            String versionTag = versionTag(findOrderedVersions(ids));
+            if (notModified.test(versionTag)) {
+                return new TaskPage(null, nextCursor, versionTag);
+            }
+        }
+        List<TaskRow> tasks = findOrderedTaskRows(ids);
+        return new TaskPage(assembleTaskResponseDtos(tasks, fields), nextCursor, versionTag(tasks.stream()
+                .map(t -> new TaskVersion(t.id(), t.version()))
+                .collect(Collectors.toList())));
+    }
+
+    private List<TaskVersion> findOrderedVersions(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, TaskVersion> versions = taskRepository.findVersionsByIdIn(ids).stream()
+                .collect(Collectors.toMap(TaskVersion::id, Function.identity()));
+        return ids.stream()
+                .map(versions::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private String versionTag(List<TaskVersion> tasks) {
+        StringBuilder versions = new StringBuilder();
+        for (TaskVersion task : tasks) {
+            versions.append(task.id()).append('.').append(task.version()).append(',');
+        }
+        return DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    // Tasks and comments are read through two cursors ordered by task id and merged, executors per chunk.
+    // At most a chunk of tasks and the comments of one task are held at a time
+    @Transactional(readOnly = true)
+    public void exportTasks(String authorEmail, String executorEmail, Set<Status> statuses,
+                            Set<Priority> priorities, Consumer<TaskResponseDto> consumer) {
+        try (Stream<TaskRow> rows = streamTaskRows(authorEmail, executorEmail, statuses, priorities);
+             Stream<CommentRow> commentRows = streamCommentRows(authorEmail, executorEmail, statuses, priorities)) {
+            List<TaskRow> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+            Iterator<TaskRow> iterator = rows.iterator();
+            CommentCursor comments = new CommentCursor(commentRows.iterator());
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_CHUNK_SIZE || !iterator.hasNext()) {
+                    Map<Long, List<String>> executors = findExecutorEmails(
+                            chunk.stream().map(TaskRow::id).collect(Collectors.toList()));
+                    for (TaskRow task : chunk) {
+                        consumer.accept(toTaskResponseDto(task, TaskField.ALL,
+                                executors.getOrDefault(task.id(), List.of()), comments.next(task.id())));
+                    }
+                    chunk.clear();
+                }
+            }
+        }
+    }
+
+    private Stream<CommentRow> streamCommentRows(String authorEmail, String executorEmail,
+                                                 Set<Status> statuses, Set<Priority> priorities) {
+        if (!authorEmail.isEmpty()) {
+            return commentRepository.streamRowsByTaskAuthorEmail(authorEmail, statuses, priorities);
+        } else if (!executorEmail.isEmpty()) {
+            return commentRepository.streamRowsByTaskExecutorEmail(executorEmail, statuses, priorities);
+        } else {
+            return commentRepository.streamRows(statuses, priorities);
+        }
+    }
+
+    private Stream<TaskRow> streamTaskRows(String authorEmail, String executorEmail,
+                                           Set<Status> statuses, Set<Priority> priorities) {
+        if (!authorEmail.isEmpty()) {
+            return taskRepository.streamTaskRowsByAuthorEmail(authorEmail, statuses, priorities);
+        } else if (!executorEmail.isEmpty()) {
+            return taskRepository.streamTaskRowsByExecutorEmail(executorEmail, statuses, priorities);
+        } else {
+            return taskRepository.streamTaskRows(statuses, priorities);
+        }
+    }
+
+    private List<TaskRow> findOrderedTaskRows(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, TaskRow> tasks = taskRepository.findTaskRowsByIdIn(ids).stream()
+                .collect(Collectors.toMap(TaskRow::id, Function.identity()));
+        return ids.stream()
+                .map(tasks::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private List<TaskResponseDto> assembleTaskResponseDtos(List<TaskRow> tasks, Set<TaskField> fields) {
+        if (tasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> ids = tasks.stream().map(TaskRow::id).collect(Collectors.toList());
+        Map<Long, List<String>> executors = !fields.contains(TaskField.EXECUTORS) ? Map.of()
+                : findExecutorEmails(ids);
+        Map<Long, List<CommentResponseDto>> comments = !fields.contains(TaskField.COMMENTS) ? Map.of()
+                : commentRepository.findRowsByTaskIdIn(ids).stream()
+                .collect(Collectors.groupingBy(CommentRow::taskId,
+                        Collectors.mapping(c -> new CommentResponseDto(c.authorEmail(), c.text()),
+                                Collectors.toList())));
+
+        List<TaskResponseDto> responseDtos = new ArrayList<>();
+        for (TaskRow task : tasks) {
+            responseDtos.add(toTaskResponseDto(task, fields, executors.getOrDefault(task.id(), List.of()),
+                    comments.getOrDefault(task.id(), List.of())));
+        }
+        return responseDtos;
+    }
+
+    private Map<Long, List<String>> findExecutorEmails(List<Long> taskIds) {
+        return taskRepository.findExecutorRowsByTaskIdIn(taskIds).stream()
+                .collect(Collectors.groupingBy(ExecutorRow::taskId,
+                        Collectors.mapping(ExecutorRow::email, Collectors.toList())));
+    }
+
+    private TaskResponseDto toTaskResponseDto(TaskRow task, Set<TaskField> fields,
+                                              List<String> executors, List<CommentResponseDto> comments) {
+        if (fields.containsAll(TaskField.ALL)) {
+            return new TaskResponseDto(task.name(), task.description(), task.status(), task.priority(),
+                    task.authorEmail(), executors, comments);
+        }
+        return new TaskProjectionResponseDto(
+                fields.contains(TaskField.NAME) ? task.name() : null,
+                fields.contains(TaskField.DESCRIPTION) ? task.description() : null,
+                fields.contains(TaskField.STATUS) ? task.status() : null,
+                fields.contains(TaskField.PRIORITY) ? task.priority() : null,
+                fields.contains(TaskField.AUTHOR) ? task.authorEmail() : null,
+                fields.contains(TaskField.EXECUTORS) ? executors : null,
+                fields.contains(TaskField.COMMENTS) ? comments : null);
+    }
+
+    private Map<Long, List<Comment>> findCommentsByTaskIds(List<Long> taskIds) {
+        return commentRepository.findAllWithAuthorByTaskIdIn(taskIds).stream()
+                .collect(Collectors.groupingBy(c -> c.getTask().getId()));
+    }
+
+    List<TaskResponseDto> mapToTaskResponseDto(List<Task> tasks, Map<Long, List<Comment>> taskComments) {
         List<TaskResponseDto> responseDtos = new ArrayList<>();
         for (Task task : tasks) {
             List<String> executors = task.getExecutors().stream()
                     .map(User::getEmail).collect(Collectors.toList());
-            List<CommentResponseDto> comments = task.getComments().stream()
+            List<CommentResponseDto> comments = taskComments.getOrDefault(task.getId(), List.of()).stream()
                     .map(c -> new CommentResponseDto(c.getAuthor().getEmail(), c.getText()))
                     .collect(Collectors.toList());
             TaskResponseDto responseDto = new TaskResponseDto(task.getName(), task.getDescription(),
@@ -161,6 +498,53 @@ public class TaskService {
         return responseDtos;
     }
 
+    private Collection<User> findUsersByEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return List.of();
+        }
+        Map<String, User> users = userRepository.findAllByEmailIn(new HashSet<>(emails)).stream()
+                .collect(Collectors.toMap(User::getEmail, Function.identity()));
+        List<String> unknownEmails = emails.stream()
+                .filter(e -> !users.containsKey(e)).distinct().collect(Collectors.toList());
+        if (unknownEmails.size() == 1) {
+            throw usernameNotFoundException(unknownEmails.get(0));
+        } else if (!unknownEmails.isEmpty()) {
+            throw new UsernameNotFoundException("Users " + unknownEmails + " are not found");
+        }
+        return users.values();
+    }
+
+    private record TaskState(Long id, Long version, Long authorId, TaskSnapshot snapshot) {
+    }
+
+    // walks comment rows ordered by task id alongside the task rows
+    private static class CommentCursor {
+        private final Iterator<CommentRow> rows;
+        private CommentRow next;
+
+        CommentCursor(Iterator<CommentRow> rows) {
+            this.rows = rows;
+            this.next = rows.hasNext() ? rows.next() : null;
+        }
+
+        List<CommentResponseDto> next(Long taskId) {
+            List<CommentResponseDto> comments = new ArrayList<>();
+            // rows of a task the task cursor did not see, one committed between the two queries
+            while (next != null && next.taskId() < taskId) {
+                advance();
+            }
+            while (next != null && next.taskId().equals(taskId)) {
+                comments.add(new CommentResponseDto(next.authorEmail(), next.text()));
+                advance();
+            }
+            return comments;
+        }
+
+        private void advance() {
+            next = rows.hasNext() ? rows.next() : null;
+        }
+    }
+
     private UsernameNotFoundException usernameNotFoundException(String username) {
         return new UsernameNotFoundException("User '" + username + "' is not found");
     }
@@ -0,0 +1,43 @@
+package com.example.management.service;
+
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+
+import java.util.Set;
+
+public class TaskSnapshot {
+    private final String name;
+    private final Status status;
+    private final Priority priority;
+    private final String authorEmail;
+    private final Set<String> executorEmails;
+
+    public TaskSnapshot(String name, Status status, Priority priority, String authorEmail,
+                        Set<String> executorEmails) {
+        this.name = name;
+        this.status = status;
+        this.priority = priority;
+        this.authorEmail = authorEmail;
+        this.executorEmails = executorEmails;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Priority getPriority() {
+        return priority;
+    }
+
+    public String getAuthorEmail() {
+        return authorEmail;
+    }
+
+    public Set<String> getExecutorEmails() {
+        return executorEmails;
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.management.service;
+
+import com.example.management.dto.TaskStatisticsResponseDto;
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+import com.example.management.repository.TaskRepository;
+import com.example.management.repository.projection.StatisticsRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class TaskStatistics {
+    private static final Status[] STATUSES = Status.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private TaskRepository taskRepository;
+    private volatile Counters counters = new Counters();
+    // not synchronized, which would pin the carrier of a virtual scheduler thread for the whole recount
+    private Lock reconcileLock = new ReentrantLock();
+
+    @Autowired
+    public TaskStatistics(TaskRepository taskRepository) {
+        this.taskRepository = taskRepository;
+    }
+
+    public TaskStatisticsResponseDto getStatistics() {
+        return toResponseDto(counters.overall);
+    }
+
+    public TaskStatisticsResponseDto getStatisticsByAuthorEmail(String email) {
+        return toResponseDto(counters.byAuthor.get(email));
+    }
+
+    public TaskStatisticsResponseDto getStatisticsByExecutorEmail(String email) {
+        return toResponseDto(counters.byExecutor.get(email));
+    }
+
+    @TransactionalEventListener
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.getType() == TaskChangedEvent.Type.COMMENTED) {
+            return;
+        }
+        counters.apply(event);
+    }
+
+    // both counts see one snapshot. A change committed while they run but published before the counters are
+    // replaced is lost to them, that drift lasts until the next reconcile
+    @Scheduled(fixedDelayString = "${tasks.statistics.reconcile-interval:PT10M}")
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            counters = count();
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    private Counters count() {
+        Counters counted = new Counters();
+        for (StatisticsRow row : taskRepository.countByAuthor()) {
+            int cell = cell(row.status(), row.priority());
+            counted.overall[cell].add(row.count());
+            counted.byAuthor.computeIfAbsent(row.email(), e -> newCells())[cell].add(row.count());
+        }
+        for (StatisticsRow row : taskRepository.countByExecutor()) {
+            counted.byExecutor.computeIfAbsent(row.email(), e -> newCells())[cell(row.status(), row.priority())]
+                    .add(row.count());
+        }
+        return counted;
+    }
+
+    private static TaskStatisticsResponseDto toResponseDto(LongAdder[] cells) {
+        long total = 0;
+        Map<Status, Map<Priority, Long>> counts = new EnumMap<>(Status.class);
+        for (Status status : STATUSES) {
+            Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+            for (Priority priority : PRIORITIES) {
+                long count = cells == null ? 0 : cells[cell(status, priority)].sum();
+                byPriority.put(priority, count);
+                total += count;
+            }
+            counts.put(status, byPriority);
+        }
+        return new TaskStatisticsResponseDto(total, counts);
+    }
+
+    private static int cell(Status status, Priority priority) {
+        return status.ordinal() * PRIORITIES.length + priority.ordinal();
+    }
+
+    private static LongAdder[] newCells() {
+        LongAdder[] cells = new LongAdder[STATUSES.length * PRIORITIES.length];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = new LongAdder();
+        }
+        return cells;
+    }
+
+    private static class Counters {
+        private final LongAdder[] overall = newCells();
+        private final ConcurrentMap<String, LongAdder[]> byAuthor = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, LongAdder[]> byExecutor = new ConcurrentHashMap<>();
+
+        private void apply(TaskChangedEvent event) {
+            if (event.getBefore() != null) {
+                add(event.getBefore(), -1);
+            }
+            if (event.getAfter() != null) {
+                add(event.getAfter(), 1);
+            }
+        }
+
+        private void add(TaskSnapshot task, int delta) {
+            int cell = cell(task.getStatus(), task.getPriority());
+            overall[cell].add(delta);
+            byAuthor.computeIfAbsent(task.getAuthorEmail(), e -> newCells())[cell].add(delta);
+            for (String executor : task.getExecutorEmails()) {
+                byExecutor.computeIfAbsent(executor, e -> newCells())[cell].add(delta);
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.management.service;
+
+import com.example.management.dto.TaskResponseDto;
+import com.example.management.repository.projection.TaskVersion;
+
+public class VersionedTask {
+    private final TaskResponseDto task;
+    private final TaskVersion version;
+
+    public VersionedTask(TaskResponseDto task, TaskVersion version) {
+        this.task = task;
+        this.version = version;
+    }
+
+    public TaskResponseDto getTask() {
+        return task;
+    }
+
+    public TaskVersion getVersion() {
+        return version;
+    }
+}
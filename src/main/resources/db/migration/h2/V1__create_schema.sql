@@ -0,0 +1,39 @@
+-- the schema the postgresql migrations arrive at, without the full-text search columns
+CREATE SEQUENCE tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE users (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    email varchar(255) UNIQUE,
+    password varchar(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE tasks (
+    id bigint NOT NULL,
+    version bigint DEFAULT 0 NOT NULL,
+    name varchar(255) UNIQUE,
+    description varchar(255),
+    status varchar(255) CHECK (status IN ('PENDING', 'PROCESSING', 'FINISHED')),
+    priority varchar(255) CHECK (priority IN ('LOW', 'MIDDLE', 'HIGH')),
+    author_id bigint REFERENCES users (id),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE executors_tasks (
+    task_id bigint NOT NULL REFERENCES tasks (id) ON DELETE CASCADE,
+    executor_id bigint NOT NULL REFERENCES users (id),
+    PRIMARY KEY (task_id, executor_id)
+);
+
+CREATE TABLE comments (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    text varchar(255),
+    author_id bigint REFERENCES users (id),
+    task_id bigint REFERENCES tasks (id) ON DELETE CASCADE,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX tasks_author_id_id_idx ON tasks (author_id, id, status, priority);
+CREATE INDEX tasks_status_priority_id_idx ON tasks (status, priority, id);
+CREATE INDEX executors_tasks_executor_id_task_id_idx ON executors_tasks (executor_id, task_id);
+CREATE INDEX comments_task_id_id_idx ON comments (task_id, id);
@@ -0,0 +1,11 @@
+-- the predefined users of the test database, hashed with the default strength
+UPDATE users SET password = '{bcrypt}$2a$10$KW1BPaKjn9r8shVOqpCyXuBANfUaPF12Feh6E7.79x9HDOIESo046' WHERE email = 'user1@mail.com' AND password = 'password1';
+UPDATE users SET password = '{bcrypt}$2a$10$upWK6itK342ta8lI1Zca3.p.ioSJCaNcNzdUidfUI0WKP1Rg0q20m' WHERE email = 'user2@mail.com' AND password = 'password2';
+UPDATE users SET password = '{bcrypt}$2a$10$NhPFOCE3MGzlDDW5g0Q/b.xM6J6NhutrgaMgUuK2cVlAGzJRvp1/q' WHERE email = 'user3@mail.com' AND password = 'password3';
+UPDATE users SET password = '{bcrypt}$2a$10$9EA0RwfYR3D0/Gmsu8JNQ.cvMCse2.k12IXn1AAl5aUi6BBdC/eRu' WHERE email = 'user4@mail.com' AND password = 'password4';
+UPDATE users SET password = '{bcrypt}$2a$10$vM1.IZ7u9U3hCRMaZe9giO/i5DiEIjta7HawRBVlNJWLPQUXnmcXa' WHERE email = 'user5@mail.com' AND password = 'password5';
+UPDATE users SET password = '{bcrypt}$2a$10$S5JHyqGFc5tmDtpLjDALbuZx8zSeZAUgWO53piu/um6NiRSTBy9By' WHERE email = 'user6@mail.com' AND password = 'password6';
+UPDATE users SET password = '{bcrypt}$2a$10$a0lylUctznijtazhVfKN.O7kbe9x4lawUVZ5CJKYiXdf60QBVG4a2' WHERE email = 'user7@mail.com' AND password = 'password7';
+UPDATE users SET password = '{bcrypt}$2a$10$5OQsNT3CFax.C9klL3dNbOE6lDg6d9l5ANvJs/duS1UwPu277tfre' WHERE email = 'user8@mail.com' AND password = 'password8';
+UPDATE users SET password = '{bcrypt}$2a$10$zK.MXXqVIjBzf1JuGaIXg.2EW5SK.hB3nwrkg/KSNXLoiugHPQhbK' WHERE email = 'user9@mail.com' AND password = 'password9';
+UPDATE users SET password = '{bcrypt}$2a$10$7Lq9MGEn8RmSK7WbsL/y9OFkMKI3N3bsfZrK7sG18Rqi7XaBZDbjq' WHERE email = 'user10@mail.com' AND password = 'password10';
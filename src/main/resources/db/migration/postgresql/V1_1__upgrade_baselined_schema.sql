@@ -0,0 +1,6 @@
+-- databases baselined at version 1 were created by entities without versions that took task ids from an identity
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS version bigint;
+
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY 50;
+-- ids already taken by the identity column are never handed out again
+SELECT setval('tasks_seq', greatest(coalesce(max(id), 0) + 1, (SELECT last_value FROM tasks_seq))) FROM tasks;
@@ -0,0 +1,34 @@
+-- the schema hibernate used to create, databases it created are baselined at this version
+CREATE SEQUENCE IF NOT EXISTS tasks_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS users (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    email varchar(255) UNIQUE,
+    password varchar(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS tasks (
+    id bigint NOT NULL,
+    version bigint,
+    name varchar(255) UNIQUE,
+    description varchar(255),
+    status varchar(255) CHECK (status IN ('PENDING', 'PROCESSING', 'FINISHED')),
+    priority varchar(255) CHECK (priority IN ('LOW', 'MIDDLE', 'HIGH')),
+    author_id bigint REFERENCES users (id),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE IF NOT EXISTS executors_tasks (
+    task_id bigint NOT NULL REFERENCES tasks (id),
+    executor_id bigint NOT NULL REFERENCES users (id),
+    PRIMARY KEY (task_id, executor_id)
+);
+
+CREATE TABLE IF NOT EXISTS comments (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    text varchar(255),
+    author_id bigint REFERENCES users (id),
+    task_id bigint REFERENCES tasks (id),
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,32 @@
+-- rows written before tasks were versioned
+UPDATE tasks SET version = 0 WHERE version IS NULL;
+ALTER TABLE tasks ALTER COLUMN version SET DEFAULT 0, ALTER COLUMN version SET NOT NULL;
+
+-- hibernate named the foreign keys itself, so they are looked up by column
+DO $$
+DECLARE
+    fk record;
+BEGIN
+    FOR fk IN
+        SELECT c.conname, r.relname
+        FROM pg_constraint c
+            JOIN pg_class r ON r.oid = c.conrelid
+            JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+        WHERE c.contype = 'f' AND r.relname IN ('executors_tasks', 'comments') AND a.attname = 'task_id'
+    LOOP
+        EXECUTE format('ALTER TABLE %I DROP CONSTRAINT %I', fk.relname, fk.conname);
+    END LOOP;
+END $$;
+ALTER TABLE executors_tasks ADD CONSTRAINT executors_tasks_task_id_fk
+    FOREIGN KEY (task_id) REFERENCES tasks (id) ON DELETE CASCADE;
+ALTER TABLE comments ADD CONSTRAINT comments_task_id_fk
+    FOREIGN KEY (task_id) REFERENCES tasks (id) ON DELETE CASCADE;
+
+-- tasks of an author, paged by id and filtered by status and priority without reading the table
+CREATE INDEX IF NOT EXISTS tasks_author_id_id_idx ON tasks (author_id, id) INCLUDE (status, priority);
+-- all tasks filtered by status and priority when the filter is selective
+CREATE INDEX IF NOT EXISTS tasks_status_priority_id_idx ON tasks (status, priority, id);
+-- tasks of an executor, the primary key covers the executors of a task
+CREATE INDEX IF NOT EXISTS executors_tasks_executor_id_task_id_idx ON executors_tasks (executor_id, task_id);
+-- comments of a task in creation order
+CREATE INDEX IF NOT EXISTS comments_task_id_id_idx ON comments (task_id, id);
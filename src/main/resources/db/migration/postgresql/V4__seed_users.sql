@@ -0,0 +1,13 @@
+-- the predefined users, see README.md
+INSERT INTO users (email, password) VALUES
+    ('user1@mail.com', 'password1'),
+    ('user2@mail.com', 'password2'),
+    ('user3@mail.com', 'password3'),
+    ('user4@mail.com', 'password4'),
+    ('user5@mail.com', 'password5'),
+    ('user6@mail.com', 'password6'),
+    ('user7@mail.com', 'password7'),
+    ('user8@mail.com', 'password8'),
+    ('user9@mail.com', 'password9'),
+    ('user10@mail.com', 'password10')
+ON CONFLICT (email) DO NOTHING;
@@ -0,0 +1,3 @@
+-- passwords used to be stored in plain text, login only accepts bcrypt hashes from here on
+CREATE EXTENSION IF NOT EXISTS pgcrypto;
+UPDATE users SET password = '{bcrypt}' || crypt(password, gen_salt('bf', 10)) WHERE password NOT LIKE '{bcrypt}%';
@@ -0,0 +1,57 @@
+package com.example.management;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// a database hibernate created before flyway took over is baselined at version 1 and migrated from there
+@Testcontainers(disabledWithoutDocker = true)
+class BaselineMigrationTest {
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:12");
+
+    @Test
+    void migratesSchemaCreatedByBaselineEntities() {
+        DataSource dataSource = new DriverManagerDataSource(postgres.getJdbcUrl(), postgres.getUsername(),
+                postgres.getPassword());
+        new ResourceDatabasePopulator(new ClassPathResource("db/baseline/schema.sql")).execute(dataSource);
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/postgresql")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        assertEquals(0, count(jdbcTemplate, "SELECT count(*) FROM tasks WHERE version IS NULL OR version <> 0"));
+        long maxId = jdbcTemplate.queryForObject("SELECT max(id) FROM tasks", Long.class);
+        // hibernate's pooled optimizer hands out the 50 ids up to the value it fetched
+        assertTrue(jdbcTemplate.queryForObject("SELECT nextval('tasks_seq')", Long.class) - 50 >= maxId);
+
+        jdbcTemplate.update("DELETE FROM tasks WHERE name = 'legacy-1'");
+        assertEquals(0, count(jdbcTemplate, "SELECT count(*) FROM comments"));
+        assertEquals(0, count(jdbcTemplate, "SELECT count(*) FROM executors_tasks"));
+        assertEquals(1, count(jdbcTemplate,
+                "SELECT count(*) FROM tasks WHERE search_vector @@ websearch_to_tsquery('english', 'legacy')"));
+        assertEquals(0, count(jdbcTemplate, "SELECT count(*) FROM users WHERE password NOT LIKE '{bcrypt}$2a$10$%'"));
+        assertEquals(1, count(jdbcTemplate, "SELECT count(*) FROM users WHERE email = 'legacy@mail.com' " +
+                "AND password = '{bcrypt}' || crypt('password', substring(password FROM 9))"));
+    }
+
+    private static long count(JdbcTemplate jdbcTemplate, String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.management;
+
+import com.example.management.dto.TaskCreationRequestDto;
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+import com.example.management.service.TaskService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class LoadBenchmark {
+    private static final int CLIENTS = Integer.getInteger("load.clients", 16);
+    private static final int REQUESTS_PER_CLIENT = Integer.getInteger("load.requests", 2000);
+    private static final int WARMUP_REQUESTS_PER_CLIENT = Integer.getInteger("load.warmup", 200);
+    private static final int SEEDED_TASKS_PER_USER = Integer.getInteger("load.seed", 200);
+    private static final String REPORT = System.getProperty("load.report", "build/reports/load/results.json");
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void runMixedWorkload() throws Exception {
+        seed();
+        run(WARMUP_REQUESTS_PER_CLIENT);
+        long start = System.nanoTime();
+        Map<String, List<Long>> latencies = run(REQUESTS_PER_CLIENT);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("clients", CLIENTS);
+        report.put("virtualThreads", virtualThreads && Runtime.version().feature() >= 21);
+        report.put("seconds", seconds);
+        report.put("throughput", latencies.values().stream().mapToInt(List::size).sum() / seconds);
+        Map<String, Object> endpoints = new TreeMap<>();
+        System.out.printf("%-36s %8s %10s %9s %9s %9s %7s%n",
+                "endpoint", "count", "req/s", "p50 ms", "p95 ms", "p99 ms", "errors");
+        for (Map.Entry<String, List<Long>> entry : latencies.entrySet()) {
+            List<Long> values = entry.getValue();
+            long errors = values.stream().filter(v -> v < 0).count();
+            long[] sorted = values.stream().mapToLong(Math::abs).sorted().toArray();
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("count", sorted.length);
+            stats.put("errors", errors);
+            stats.put("throughput", sorted.length / seconds);
+            stats.put("p50", percentile(sorted, 0.50));
+            stats.put("p95", percentile(sorted, 0.95));
+            stats.put("p99", percentile(sorted, 0.99));
+            endpoints.put(entry.getKey(), stats);
+            System.out.printf("%-36s %8d %10.1f %9.2f %9.2f %9.2f %7d%n", entry.getKey(), sorted.length,
+                    sorted.length / seconds, percentile(sorted, 0.50), percentile(sorted, 0.95),
+                    percentile(sorted, 0.99), errors);
+        }
+        report.put("endpoints", endpoints);
+
+        File file = new File(REPORT);
+        file.getParentFile().mkdirs();
+        objectMapper.writer(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+    }
+
+    private void seed() {
+        for (int u = 1; u <= 10; u++) {
+            List<TaskCreationRequestDto> requests = new ArrayList<>();
+            for (int i = 0; i < SEEDED_TASKS_PER_USER; i++) {
+                requests.add(new TaskCreationRequestDto("seed-" + u + "-" + i, "Seeded task " + i,
+                        Status.values()[i % Status.values().length], Priority.values()[i % Priority.values().length],
+                        List.of(email(u % 10 + 1), email((u + 1) % 10 + 1))));
+            }
+            taskService.createTasks(requests, email(u));
+        }
+    }
+
+    private Map<String, List<Long>> run(int requestsPerClient) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(CLIENTS);
+        try {
+            List<Future<Map<String, List<Long>>>> futures = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                int client = c;
+                futures.add(executor.submit(() -> new Client(client).run(requestsPerClient)));
+            }
+
+            Map<String, List<Long>> latencies = new TreeMap<>();
+            for (Future<Map<String, List<Long>>> future : futures) {
+                future.get().forEach((endpoint, values) ->
+                        latencies.computeIfAbsent(endpoint, e -> new ArrayList<>()).addAll(values));
+            }
+            return latencies;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static String email(int user) {
+        return "user" + user + "@mail.com";
+    }
+
+    private class Client {
+        private final int id;
+        private final int user;
+        private final Random random;
+        private final List<String> ownTasks = new ArrayList<>();
+        private final Map<String, List<Long>> latencies = new HashMap<>();
+        private String token;
+        private int created;
+
+        Client(int id) {
+            this.id = id;
+            this.user = id % 10 + 1;
+            this.random = new Random(id);
+        }
+
+        Map<String, List<Long>> run(int requests) throws Exception {
+            login();
+            for (int i = 0; i < requests; i++) {
+                int action = random.nextInt(100);
+                if (action < 2) {
+                    login();
+                } else if (action < 37) {
+                    listTasks();
+                } else if (action < 62) {
+                    getTask();
+                } else if (action < 72) {
+                    createTask();
+                } else if (action < 85) {
+                    updateTask();
+                } else {
+                    addComment();
+                }
+            }
+            return latencies;
+        }
+
+        private void login() throws Exception {
+            String body = "{\"email\":\"" + email(user) + "\",\"password\":\"password" + user + "\"}";
+            HttpResponse<String> response = send("POST /api/auth/login", HttpRequest.newBuilder(uri("/api/auth/login"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)));
+            assertEquals(200, response.statusCode());
+            JsonNode json = objectMapper.readTree(response.body());
+            token = json.get("jwt").asText();
+        }
+
+        private void listTasks() throws Exception {
+            String query;
+            switch (random.nextInt(4)) {
+                case 0 -> query = "?size=20";
+                case 1 -> query = "?status=" + Status.values()[random.nextInt(3)] + "&priority=HIGH&cursor=";
+                case 2 -> query = "?author=" + email(random.nextInt(10) + 1) + "&page=" + (random.nextInt(5) + 1);
+                default -> query = "?executor=" + email(user) + "&status=PENDING&status=PROCESSING";
+            }
+            send("GET /api/tasks", authorized("/api/tasks" + query).GET());
+        }
+
+        private void getTask() throws Exception {
+            send("GET /api/tasks/{name}", authorized("/api/tasks/" + anyTask()).GET());
+        }
+
+        private void createTask() throws Exception {
+            String name = "load-" + id + "-" + created++ + "-" + System.nanoTime();
+            String body = "{\"name\":\"" + name + "\",\"description\":\"Load test task\",\"status\":\"PENDING\"," +
+                    "\"priority\":\"MIDDLE\",\"executors\":[\"" + email(user % 10 + 1) + "\"]}";
+            HttpResponse<String> response = send("POST /api/tasks", authorized("/api/tasks")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body)));
+            if (response.statusCode() < 300) {
+                ownTasks.add(name);
+            }
+        }
+
+        private void updateTask() throws Exception {
+            String status = Status.values()[random.nextInt(3)].name();
+            send("PATCH /api/tasks/{name}", authorized("/api/tasks/" + ownTask() + "?status=" + status)
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody()));
+        }
+
+        private void addComment() throws Exception {
+            send("POST /api/tasks/{name}/comments", authorized("/api/tasks/" + anyTask() + "/comments")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString("{\"text\":\"Load test comment\"}")));
+        }
+
+        private String anyTask() {
+            int owner = random.nextInt(10) + 1;
+            return "seed-" + owner + "-" + random.nextInt(SEEDED_TASKS_PER_USER);
+        }
+
+        private String ownTask() {
+            if (!ownTasks.isEmpty() && random.nextBoolean()) {
+                return ownTasks.get(random.nextInt(ownTasks.size()));
+            }
+            return "seed-" + user + "-" + random.nextInt(SEEDED_TASKS_PER_USER);
+        }
+
+        private HttpRequest.Builder authorized(String path) {
+            return HttpRequest.newBuilder(uri(path)).header("Authorization", "Bearer " + token);
+        }
+
+        private URI uri(String path) {
+            return URI.create("http://localhost:" + port + path);
+        }
+
+        private HttpResponse<String> send(String endpoint, HttpRequest.Builder request) throws Exception {
+            long start = System.nanoTime();
+            HttpResponse<String> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            long latency = System.nanoTime() - start;
+            latencies.computeIfAbsent(endpoint, e -> new ArrayList<>())
+                    .add(response.statusCode() < 400 ? latency : -latency);
+            return response;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.management;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Tag("benchmark")
+class StartupBenchmark {
+    private static final String APPLICATION = System.getProperty("startup.application", "build/cds");
+    private static final String EXTRA_CLASSPATH = System.getProperty("startup.classpath", "");
+    private static final boolean AOT = Boolean.getBoolean("startup.aot");
+    private static final String JVM_ARGS = System.getProperty("startup.jvmArgs", "");
+    private static final int RUNS = Integer.getInteger("startup.runs", 5);
+    private static final Duration TIMEOUT = Duration.ofMinutes(2);
+    private static final String LOGIN = "{\"email\": \"user1@mail.com\", \"password\": \"password1\"}";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    @Test
+    void measureTimeToFirstSuccessfulRequest() throws Exception {
+        Path archive = Files.createTempDirectory("startup").resolve("application.jsa");
+        train(archive);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("aot", AOT);
+        report.put("jvmArgs", JVM_ARGS);
+        System.out.printf("%-10s %9s %9s %9s%n", "mode", "min ms", "p50 ms", "max ms");
+        measure(report, "jar", List.of());
+        measure(report, "cds", List.of("-XX:SharedArchiveFile=" + archive));
+
+        File file = new File(APPLICATION, "../reports/startup/results.json");
+        file.getParentFile().mkdirs();
+        new ObjectMapper().writer(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+    }
+
+    // the same run the fast-start image does at build time
+    private void train(Path archive) throws Exception {
+        Process process = start(List.of("-XX:ArchiveClassesAtExit=" + archive, "-Dspring.context.exit=onRefresh"),
+                freePort());
+        assertTrue(process.waitFor(TIMEOUT.toSeconds(), TimeUnit.SECONDS), "Training run did not exit");
+        assertTrue(Files.exists(archive), "Training run did not write " + archive);
+    }
+
+    private void measure(Map<String, Object> report, String mode, List<String> jvmArgs) throws Exception {
+        long[] millis = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            millis[i] = timeToFirstRequest(jvmArgs);
+        }
+        Arrays.sort(millis);
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("runs", RUNS);
+        stats.put("min", millis[0]);
+        stats.put("p50", millis[RUNS / 2]);
+        stats.put("max", millis[RUNS - 1]);
+        report.put(mode, stats);
+        System.out.printf("%-10s %9d %9d %9d%n", mode, millis[0], millis[RUNS / 2], millis[RUNS - 1]);
+    }
+
+    private long timeToFirstRequest(List<String> jvmArgs) throws Exception {
+        int port = freePort();
+        HttpRequest login = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(LOGIN))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        long start = System.nanoTime();
+        Process process = start(jvmArgs, port);
+        try {
+            while (System.nanoTime() - start < TIMEOUT.toNanos()) {
+                assertTrue(process.isAlive(), "The application exited with " + process.exitValue());
+                try {
+                    if (httpClient.send(login, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return (System.nanoTime() - start) / 1_000_000;
+                    }
+                } catch (IOException e) {
+                    // not listening yet
+                }
+                Thread.sleep(10);
+            }
+            throw new AssertionError("No successful request within " + TIMEOUT);
+        } finally {
+            process.destroy();
+            process.waitFor(30, TimeUnit.SECONDS);
+        }
+    }
+
+    private Process start(List<String> jvmArgs, int port) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        if (AOT) {
+            command.add("-Dspring.aot.enabled=true");
+        }
+        if (!JVM_ARGS.isBlank()) {
+            command.addAll(Arrays.asList(JVM_ARGS.trim().split("\\s+")));
+        }
+        command.add("-cp");
+        command.add(new File(APPLICATION, "application.jar") + File.pathSeparator + EXTRA_CLASSPATH);
+        command.add(TaskManagementSystemApplication.class.getName());
+        command.add("--spring.profiles.active=test");
+        command.add("--server.port=" + port);
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.management;
+
+import com.example.management.cache.TaskJsonCache;
+import com.example.management.dto.TaskCreationRequestDto;
+import com.example.management.dto.TaskField;
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+import com.example.management.security.JwtAuthenticationFilter;
+import com.example.management.service.JwtService;
+import com.example.management.service.TaskPageRequest;
+import com.example.management.service.TaskService;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadPinningTest {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String AUTHOR = "user1@mail.com";
+    private static final int TASKS = 5;
+    // many more requests than pooled connections, so that requests park waiting for one
+    private static final int REQUESTS = 200;
+
+    @Autowired
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskJsonCache taskJsonCache;
+
+    @Test
+    void requestPathDoesNotPinCarrierThreads() throws Exception {
+        String prefix = "pinning-" + UUID.randomUUID() + "-";
+        for (int i = 0; i < TASKS; i++) {
+            taskService.createTask(new TaskCreationRequestDto(prefix + i, "description",
+                    Status.PENDING, Priority.LOW, List.of("user2@mail.com")), AUTHOR);
+        }
+        String token = jwtService.generateToken(User.withUsername(AUTHOR).password("").build());
+
+        List<String> pinned = new CopyOnWriteArrayList<>();
+        AtomicBoolean done = new AtomicBoolean();
+        CountDownLatch flushed = new CountDownLatch(2);
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent(PINNED_EVENT, event -> {
+                List<String> frames = event.getStackTrace().getFrames().stream()
+                        .map(RecordedFrame::getMethod)
+                        .map(m -> m.getType().getName() + "." + m.getName())
+                        .collect(Collectors.toList());
+                // the in-memory test database is not what the service runs on
+                if (frames.stream().noneMatch(f -> f.startsWith("org.h2."))) {
+                    pinned.add(String.join("\n\tat ", frames));
+                }
+            });
+            recording.onFlush(() -> {
+                if (done.get()) {
+                    flushed.countDown();
+                }
+            });
+            recording.startAsync();
+
+            VirtualThreadTaskExecutor executor = new VirtualThreadTaskExecutor("pinning-");
+            List<Future<?>> requests = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                String name = prefix + i % TASKS;
+                Status status = Status.values()[i % Status.values().length];
+                requests.add(executor.submit(() -> {
+                    handleRequest(token, name, status);
+                    return null;
+                }));
+            }
+            for (Future<?> request : requests) {
+                request.get(1, TimeUnit.MINUTES);
+            }
+            done.set(true);
+            assertTrue(flushed.await(30, TimeUnit.SECONDS));
+        }
+
+        assertEquals(List.of(), pinned, "Virtual threads pinned their carriers");
+    }
+
+    private void handleRequest(String token, String name, Status status) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks/" + name);
+        request.addHeader("Authorization", "Bearer " + token);
+        jwtAuthenticationFilter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        String email = SecurityContextHolder.getContext().getAuthentication().getName();
+        SecurityContextHolder.clearContext();
+
+        taskService.updateTask(email, name, status, null, null);
+        taskJsonCache.get(name);
+        taskService.addComment(name, "comment");
+        taskService.getTasksByAuthorEmail(email, TaskPageRequest.ofPage(0, 5),
+                EnumSet.allOf(Status.class), EnumSet.allOf(Priority.class), TaskField.SUMMARY);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.management.events;
+
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+import com.example.management.service.TaskChangedEvent;
+import com.example.management.service.TaskSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TaskEventBroadcasterTest {
+    private static final String AUTHOR = "user1@mail.com";
+    private static final String OTHER = "user2@mail.com";
+    private static final Pattern EVENT = Pattern.compile("event:(\\w+)");
+    private static final Pattern NAME = Pattern.compile("\"name\":\"([^\"]+)\"");
+
+    private SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RecordingEmitter emitter = new RecordingEmitter();
+    private TaskEventBroadcaster broadcaster;
+
+    @AfterEach
+    void close() {
+        emitter.release.countDown();
+        broadcaster.close();
+    }
+
+    @Test
+    void sendsOnlyChangesMatchingTheFilter() throws Exception {
+        broadcaster = newBroadcaster(64);
+        broadcaster.subscribe(AUTHOR, "", EnumSet.of(Status.PENDING), EnumSet.allOf(Priority.class));
+
+        broadcaster.onTaskChanged(created("mine", AUTHOR, Status.PENDING));
+        broadcaster.onTaskChanged(created("theirs", OTHER, Status.PENDING));
+        broadcaster.onTaskChanged(created("finished", AUTHOR, Status.FINISHED));
+        // matches before the change only, a subscriber still learns that the task left its filter
+        broadcaster.onTaskChanged(new TaskChangedEvent(TaskChangedEvent.Type.UPDATED,
+                task("mine", AUTHOR, Status.PENDING), task("mine", AUTHOR, Status.FINISHED)));
+
+        assertEquals(List.of("heartbeat", "CREATED mine", "UPDATED mine"), emitter.awaitSent(3));
+    }
+
+    @Test
+    void sendsChangesInPublishingOrder() throws Exception {
+        broadcaster = newBroadcaster(256);
+        broadcaster.subscribe("", "", EnumSet.allOf(Status.class), EnumSet.allOf(Priority.class));
+
+        List<String> expected = IntStream.range(0, 200).mapToObj(i -> "CREATED task-" + i)
+                .collect(Collectors.toList());
+        for (int i = 0; i < 200; i++) {
+            broadcaster.onTaskChanged(created("task-" + i, AUTHOR, Status.PENDING));
+        }
+
+        assertEquals(expected, emitter.awaitSent(201).subList(1, 201));
+    }
+
+    @Test
+    void evictsSlowSubscriberWithoutBlockingThePublisher() throws Exception {
+        broadcaster = newBroadcaster(2);
+        emitter.blocked = true;
+        broadcaster.subscribe("", "", EnumSet.allOf(Status.class), EnumSet.allOf(Priority.class));
+        assertTrue(emitter.sending.await(10, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 3; i++) {
+            broadcaster.onTaskChanged(created("task-" + i, AUTHOR, Status.PENDING));
+        }
+        assertEquals(1, meterRegistry.get("tasks.events.evictions").counter().count());
+        assertEquals(0, meterRegistry.get("tasks.events.subscribers").gauge().value());
+        assertFalse(emitter.completed.await(100, TimeUnit.MILLISECONDS));
+
+        emitter.release.countDown();
+        assertTrue(emitter.completed.await(10, TimeUnit.SECONDS));
+        assertTrue(emitter.completedBy.startsWith("task-events-"), emitter.completedBy);
+        assertEquals(List.of("heartbeat"), emitter.sent);
+    }
+
+    private TaskEventBroadcaster newBroadcaster(int bufferSize) {
+        return new TaskEventBroadcaster(new ObjectMapper(), meterRegistry, bufferSize, 4, Duration.ofMinutes(1)) {
+            @Override
+            SseEmitter newEmitter(long timeoutMillis) {
+                return emitter;
+            }
+        };
+    }
+
+    private static TaskChangedEvent created(String name, String author, Status status) {
+        return new TaskChangedEvent(TaskChangedEvent.Type.CREATED, null, task(name, author, status));
+    }
+
+    private static TaskSnapshot task(String name, String author, Status status) {
+        return new TaskSnapshot(name, status, Priority.HIGH, author, Set.of());
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private final CountDownLatch sending = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private volatile boolean blocked;
+        private volatile String completedBy;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            String text = builder.build().stream()
+                    .map(d -> d.getData().toString())
+                    .collect(Collectors.joining());
+            Matcher event = EVENT.matcher(text);
+            Matcher name = NAME.matcher(text);
+            sent.add(event.find() && name.find() ? event.group(1) + " " + name.group(1) : "heartbeat");
+            sending.countDown();
+            if (blocked) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override
+        public synchronized void complete() {
+            completedBy = Thread.currentThread().getName();
+            completed.countDown();
+        }
+
+        private List<String> awaitSent(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (sent.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            return List.copyOf(sent);
+        }
+    }
+}
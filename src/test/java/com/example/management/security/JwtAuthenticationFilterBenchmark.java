@@ -0,0 +1,95 @@
+package com.example.management.security;
+
+import com.example.management.service.JwtService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Tag("benchmark")
+class JwtAuthenticationFilterBenchmark {
+    private static final String SECRET_KEY = "42604835656C523E383B7932676425653B3D584149494944533E77452D553865";
+    private static final int TOKENS = 20_000;
+    private static final int ITERATIONS = 20_000;
+
+    private final UserDetailsService userDetailsService = username -> User.withUsername(username)
+            .password("")
+            .authorities(List.of())
+            .build();
+
+    @Test
+    void measureCpuPerRequest() throws Exception {
+        JwtService jwtService = new JwtService();
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(jwtService, principalCache(), false);
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < TOKENS; i++) {
+            tokens.add(jwtService.generateToken(userDetailsService.loadUserByUsername("user" + i + "@mail.com")));
+        }
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            parseTwiceWithFreshParsers(tokens.get(i % 100));
+            filter(filter, tokens.get(i % 100));
+        }
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        long start = threads.getCurrentThreadCpuTime();
+        for (String token : tokens) {
+            parseTwiceWithFreshParsers(token);
+        }
+        long baseline = (threads.getCurrentThreadCpuTime() - start) / TOKENS;
+
+        JwtAuthenticationFilter coldFilter = new JwtAuthenticationFilter(new JwtService(), principalCache(), false);
+        start = threads.getCurrentThreadCpuTime();
+        for (String token : tokens) {
+            filter(coldFilter, token);
+        }
+        long cold = (threads.getCurrentThreadCpuTime() - start) / TOKENS;
+
+        start = threads.getCurrentThreadCpuTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            filter(coldFilter, tokens.get(i % 100));
+        }
+        long cached = (threads.getCurrentThreadCpuTime() - start) / ITERATIONS;
+
+        System.out.printf("%-40s %10s%n", "path", "ns CPU");
+        System.out.printf("%-40s %10d%n", "verification only, previous two parses", baseline);
+        System.out.printf("%-40s %10d%n", "filter, first request of a token", cold);
+        System.out.printf("%-40s %10d%n", "filter, repeat request of a token", cached);
+    }
+
+    private PrincipalCache principalCache() {
+        return new PrincipalCache(userDetailsService, new SimpleMeterRegistry(), TOKENS, Duration.ofMinutes(5));
+    }
+
+    private void filter(JwtAuthenticationFilter filter, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        SecurityContextHolder.clearContext();
+    }
+
+    @SuppressWarnings("deprecation")
+    private static void parseTwiceWithFreshParsers(String token) {
+        for (int i = 0; i < 2; i++) {
+            Jwts.parser()
+                    .setSigningKey(Keys.hmacShaKeyFor(SECRET_KEY.getBytes(StandardCharsets.UTF_8)))
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+        }
+    }
+}
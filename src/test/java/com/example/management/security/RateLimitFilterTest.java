@@ -0,0 +1,65 @@
+package com.example.management.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RateLimitFilterTest {
+    private static final int READ_BURST = 5;
+    private static final int WRITE_BURST = 2;
+
+    // one request an hour refills nothing while the test runs
+    private final RateLimitFilter filter = new RateLimitFilter(new ObjectMapper(), new SimpleMeterRegistry(), true,
+            1 / 3600.0, READ_BURST, 1 / 3600.0, WRITE_BURST, 100, Duration.ofMinutes(10));
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readsAndWritesHaveSeparateBudgetsPerUser() throws Exception {
+        for (int i = 0; i < READ_BURST; i++) {
+            assertEquals(200, send("user1@mail.com", "GET").getStatus());
+        }
+        MockHttpServletResponse limited = send("user1@mail.com", "GET");
+        assertEquals(429, limited.getStatus());
+        assertTrue(Long.parseLong(limited.getHeader("Retry-After")) > 0);
+
+        for (int i = 0; i < WRITE_BURST; i++) {
+            assertEquals(200, send("user1@mail.com", "POST").getStatus());
+        }
+        assertEquals(429, send("user1@mail.com", "PATCH").getStatus());
+        assertEquals(200, send("user2@mail.com", "GET").getStatus());
+    }
+
+    @Test
+    void anonymousRequestsAreNotLimited() throws Exception {
+        for (int i = 0; i < READ_BURST * 2; i++) {
+            assertEquals(200, send(null, "POST").getStatus());
+        }
+    }
+
+    private MockHttpServletResponse send(String username, String method) throws Exception {
+        SecurityContextHolder.clearContext();
+        if (username != null) {
+            SecurityContextHolder.getContext().setAuthentication(
+                    new UsernamePasswordAuthenticationToken(username, null, List.of()));
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest(method, "/api/tasks"), response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.management.service;
+
+import com.example.management.model.User;
+import com.example.management.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "security.password.strength=5")
+@ActiveProfiles("test")
+class AuthenticationServiceTest {
+    @Autowired
+    private AuthenticationService authenticationService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void seededPasswordsAreHashed() {
+        String hash = userRepository.findByEmail("user1@mail.com").get().getPassword();
+        assertTrue(hash.startsWith("{bcrypt}$2a$10$"), hash);
+
+        assertFalse(authenticationService.login("user1@mail.com", "password1").isEmpty());
+        assertEquals(hash, userRepository.findByEmail("user1@mail.com").get().getPassword());
+    }
+
+    @Test
+    void weakerHashIsRehashedOnLogin() {
+        User user = new User();
+        user.setEmail("login-" + UUID.randomUUID() + "@mail.com");
+        user.setPassword("{bcrypt}" + new BCryptPasswordEncoder(4).encode("password"));
+        userRepository.save(user);
+        String weak = user.getPassword();
+
+        assertThrows(BadCredentialsException.class, () -> authenticationService.login(user.getEmail(), "wrong"));
+        assertEquals(weak, userRepository.findByEmail(user.getEmail()).get().getPassword());
+
+        assertFalse(authenticationService.login(user.getEmail(), "password").isEmpty());
+        String hash = userRepository.findByEmail(user.getEmail()).get().getPassword();
+        assertTrue(hash.startsWith("{bcrypt}$2a$05$"), hash);
+
+        authenticationService.login(user.getEmail(), "password");
+        assertEquals(hash, userRepository.findByEmail(user.getEmail()).get().getPassword());
+        assertThrows(BadCredentialsException.class, () -> authenticationService.login(user.getEmail(), "wrong"));
+    }
+}
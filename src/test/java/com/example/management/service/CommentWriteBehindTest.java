@@ -0,0 +1,91 @@
+package com.example.management.service;
+
+import com.example.management.dto.TaskCreationRequestDto;
+import com.example.management.exception.ServiceOverloadedException;
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CommentWriteBehindTest {
+    private static final String AUTHOR = "user1@mail.com";
+    private static final int COMMENTS = 25;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void acceptedCommentsAreWrittenByClose() throws Exception {
+        String name = "write-behind-" + UUID.randomUUID();
+        taskService.createTask(new TaskCreationRequestDto(name, "description",
+                Status.PENDING, Priority.LOW, List.of()), AUTHOR);
+        Long version = taskService.getTaskVersion(name).version();
+
+        CommentWriteBehind writeBehind = new CommentWriteBehind(taskService, new SimpleMeterRegistry(),
+                COMMENTS, 10, Duration.ofMillis(50));
+        for (int i = 0; i < COMMENTS; i++) {
+            writeBehind.submit(name, "comment " + i);
+        }
+        writeBehind.close();
+
+        List<?> comments = taskService.getComments(name, TaskPageRequest.afterCursor("", 100)).getComments();
+        assertEquals(COMMENTS, comments.size());
+        assertTrue(taskService.getTaskVersion(name).version() > version);
+        assertThrows(ServiceOverloadedException.class, () -> writeBehind.submit(name, "too late"));
+    }
+
+    @Test
+    void commentsAcceptedWhileClosingAreWritten() throws Exception {
+        String name = "write-behind-" + UUID.randomUUID();
+        taskService.createTask(new TaskCreationRequestDto(name, "description",
+                Status.PENDING, Priority.LOW, List.of()), AUTHOR);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        CommentWriteBehind writeBehind = new CommentWriteBehind(taskService, meterRegistry,
+                100_000, 10, Duration.ofMillis(5));
+        ExecutorService submitters = Executors.newFixedThreadPool(4);
+        List<Future<Integer>> accepted = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            accepted.add(submitters.submit(() -> {
+                int count = 0;
+                try {
+                    while (true) {
+                        writeBehind.submit(name, "comment");
+                        count++;
+                    }
+                } catch (ServiceOverloadedException e) {
+                    return count;
+                }
+            }));
+        }
+        Thread.sleep(100);
+        writeBehind.close();
+
+        int total = 0;
+        for (Future<Integer> count : accepted) {
+            total += count.get(10, TimeUnit.SECONDS);
+        }
+        submitters.shutdown();
+        assertTrue(total > 0);
+        assertEquals(total, meterRegistry.get("tasks.comments.written").counter().count());
+        assertEquals(0, meterRegistry.get("tasks.comments.lost").counter().count());
+    }
+}
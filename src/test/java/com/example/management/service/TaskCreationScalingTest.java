@@ -0,0 +1,102 @@
+package com.example.management.service;
+
+import com.example.management.dto.TaskCreationRequestDto;
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+import com.example.management.model.User;
+import com.example.management.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskCreationScalingTest {
+    private static final int HISTORY = 100_000;
+    private static final int INSERT_BATCH = 5_000;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TaskStatistics taskStatistics;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        user = new User();
+        user.setEmail("history-" + UUID.randomUUID() + "@mail.com");
+        user.setPassword("password");
+        user = userRepository.save(user);
+
+        // negative ids never collide with the ones the sequence hands out
+        for (int from = 1; from <= HISTORY; from += INSERT_BATCH) {
+            List<Object[]> tasks = new ArrayList<>();
+            List<Object[]> executors = new ArrayList<>();
+            List<Object[]> comments = new ArrayList<>();
+            for (long id = -from; id > -from - INSERT_BATCH; id--) {
+                tasks.add(new Object[]{id, user.getEmail() + id, user.getId()});
+                executors.add(new Object[]{id, user.getId()});
+                comments.add(new Object[]{id, user.getId()});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO tasks (id, version, name, description, status, priority, author_id) " +
+                    "VALUES (?, 0, ?, 'history', 'PENDING', 'LOW', ?)", tasks);
+            jdbcTemplate.batchUpdate("INSERT INTO executors_tasks (task_id, executor_id) VALUES (?, ?)", executors);
+            jdbcTemplate.batchUpdate("INSERT INTO comments (task_id, author_id, text) VALUES (?, ?, 'history')", comments);
+        }
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM comments WHERE author_id = ?", user.getId());
+        jdbcTemplate.update("DELETE FROM executors_tasks WHERE task_id IN " +
+                "(SELECT id FROM tasks WHERE author_id = ?)", user.getId());
+        jdbcTemplate.update("DELETE FROM tasks WHERE author_id = ?", user.getId());
+        userRepository.delete(user);
+        // the task created through the service was counted, its raw delete was not
+        taskStatistics.reconcile();
+    }
+
+    @Test
+    void writesDoNotLoadUserHistory() {
+        String name = "scaling-" + UUID.randomUUID();
+        taskService.createTask(new TaskCreationRequestDto(name, "description",
+                Status.PENDING, Priority.LOW, List.of(user.getEmail())), user.getEmail());
+        taskService.addComment(name, "comment");
+        taskService.addExecutors(user.getEmail(), name, List.of("user2@mail.com"));
+
+        for (String collection : List.of("authorTasks", "executorTasks", "comments")) {
+            assertEquals(0, statistics.getCollectionStatistics(User.class.getName() + "." + collection).getLoadCount(),
+                    collection);
+        }
+        // the users and the task themselves, none of the history
+        assertTrue(statistics.getEntityLoadCount() <= 5, "Loaded " + statistics.getEntityLoadCount() + " entities");
+    }
+}
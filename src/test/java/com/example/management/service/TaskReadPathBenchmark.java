@@ -0,0 +1,161 @@
+package com.example.management.service;
+
+import com.example.management.dto.TaskField;
+import com.example.management.dto.TaskResponseDto;
+import com.example.management.model.*;
+import com.example.management.repository.TaskRepository;
+import com.example.management.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskReadPathBenchmark {
+    private static final int TASKS = 200;
+    private static final int EXECUTORS_PER_TASK = 3;
+    private static final int COMMENTS_PER_TASK = 20;
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_ITERATIONS = 200;
+    private static final int ITERATIONS = 1000;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void seed() {
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        if (taskRepository.existsByName("benchmark-0")) {
+            return;
+        }
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            List<User> users = userRepository.findAll();
+            for (int i = 0; i < TASKS; i++) {
+                Task task = new Task();
+                task.setName("benchmark-" + i);
+                task.setDescription("Benchmark task " + i);
+                task.setStatus(Status.values()[i % Status.values().length]);
+                task.setPriority(Priority.values()[i % Priority.values().length]);
+                task.setAuthor(users.get(i % users.size()));
+                for (int e = 1; e <= EXECUTORS_PER_TASK; e++) {
+                    task.addExecutors(users.get((i + e) % users.size()));
+                }
+                for (int c = 0; c < COMMENTS_PER_TASK; c++) {
+                    Comment comment = new Comment();
+                    comment.setAuthor(users.get((i + c) % users.size()));
+                    comment.setText("Comment " + c + " on benchmark task " + i);
+                    task.addComments(comment);
+                }
+                taskRepository.save(task);
+            }
+        });
+    }
+
+    @Test
+    void compareEntityAndProjectionReadPaths() {
+        assertEquals(PAGE_SIZE, read(this::loadEntityPage).size());
+        assertEquals(names(read(this::loadEntityPage)), names(read(this::readProjectionPage)));
+
+        Result entity = measure(this::loadEntityPage);
+        Result projection = measure(this::readProjectionPage);
+
+        System.out.printf("%-12s %14s %14s %14s%n", "path", "avg us/page", "p99 us/page", "KiB/page");
+        System.out.printf("%-12s %14.1f %14.1f %14.1f%n", "entity",
+                entity.averageMicros, entity.p99Micros, entity.allocatedKib);
+        System.out.printf("%-12s %14.1f %14.1f %14.1f%n", "projection",
+                projection.averageMicros, projection.p99Micros, projection.allocatedKib);
+    }
+
+    private List<TaskResponseDto> readProjectionPage() {
+        return taskService.getTasks(TaskPageRequest.ofPage(0, PAGE_SIZE), EnumSet.allOf(Status.class),
+                EnumSet.allOf(Priority.class), TaskField.ALL).getTasks();
+    }
+
+    // the managed entity read path the list endpoints used before the projections, kept as the baseline
+    private List<TaskResponseDto> loadEntityPage() {
+        List<Long> ids = taskRepository.findIds(0, EnumSet.allOf(Status.class), EnumSet.allOf(Priority.class),
+                PageRequest.of(0, PAGE_SIZE));
+        Map<Long, Task> tasks = entityManager.createQuery("SELECT DISTINCT t FROM Task t JOIN FETCH t.author " +
+                        "LEFT JOIN FETCH t.executors WHERE t.id IN :ids", Task.class)
+                .setParameter("ids", ids)
+                .getResultStream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        Map<Long, List<Comment>> comments = entityManager.createQuery("SELECT c FROM Comment c " +
+                        "JOIN FETCH c.author WHERE c.task.id IN :ids ORDER BY c.id", Comment.class)
+                .setParameter("ids", ids)
+                .getResultStream()
+                .collect(Collectors.groupingBy(c -> c.getTask().getId()));
+        List<Task> orderedTasks = ids.stream().map(tasks::get).filter(Objects::nonNull).toList();
+        return taskService.mapToTaskResponseDto(orderedTasks, comments);
+    }
+
+    private List<TaskResponseDto> read(Supplier<List<TaskResponseDto>> path) {
+        return readOnlyTransaction.execute(status -> path.get());
+    }
+
+    private Result measure(Supplier<List<TaskResponseDto>> path) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            read(path);
+        }
+
+        long[] latencies = new long[ITERATIONS];
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            read(path);
+            latencies[i] = System.nanoTime() - start;
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        Arrays.sort(latencies);
+        double average = Arrays.stream(latencies).average().orElse(0) / 1000.0;
+        double p99 = latencies[(int) (ITERATIONS * 0.99) - 1] / 1000.0;
+        return new Result(average, p99, allocated / 1024.0 / ITERATIONS);
+    }
+
+    private static List<String> names(List<TaskResponseDto> tasks) {
+        return tasks.stream().map(TaskResponseDto::getName).toList();
+    }
+
+    private record Result(double averageMicros, double p99Micros, double allocatedKib) {
+    }
+}
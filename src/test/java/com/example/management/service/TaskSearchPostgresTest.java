@@ -0,0 +1,60 @@
+package com.example.management.service;
+
+import com.example.management.dto.TaskCreationRequestDto;
+import com.example.management.dto.TaskField;
+import com.example.management.dto.TaskResponseDto;
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// full-text search is native PostgreSQL, the H2 test profile cannot run it
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = "PORT=0")
+@Testcontainers(disabledWithoutDocker = true)
+class TaskSearchPostgresTest {
+    private static final String AUTHOR = "user1@mail.com";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:12");
+
+    @Autowired
+    private TaskService taskService;
+
+    @Test
+    void matchesNamesDescriptionsAndCommentsByRank() {
+        create("quokka report", "weekly summary");
+        create("weekly notes", "about the quokka");
+        create("unrelated", "nothing here");
+        create("other", "nothing either");
+        taskService.addComment("unrelated", "a quokka was sighted");
+        taskService.addComment("other", "more quokkas, seen twice");
+
+        assertEquals(List.of("quokka report", "weekly notes", "unrelated", "other"), search("quokka", 0, 10));
+        assertEquals(List.of("quokka report", "weekly notes"), search("quokka", 0, 2));
+        assertEquals(List.of("unrelated", "other"), search("quokka", 1, 2));
+        assertEquals(List.of("unrelated", "other"), search("quokka -weekly", 0, 10));
+        assertEquals(List.of("weekly notes"), search("\"weekly notes\"", 0, 10));
+        assertEquals(List.of(), search("platypus", 0, 10));
+    }
+
+    private void create(String name, String description) {
+        taskService.createTask(new TaskCreationRequestDto(name, description, Status.PENDING, Priority.LOW,
+                List.of()), AUTHOR);
+    }
+
+    private List<String> search(String query, int page, int size) {
+        return taskService.searchTasks(query, page, size, TaskField.SUMMARY).stream()
+                .map(TaskResponseDto::getName)
+                .toList();
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.management.service;
+
+import com.example.management.dto.CommentResponseDto;
+import com.example.management.dto.TaskCreationRequestDto;
+import com.example.management.dto.TaskField;
+import com.example.management.dto.TaskResponseDto;
+import com.example.management.exception.NoAuthorityException;
+import com.example.management.exception.TaskNotFoundException;
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+import com.example.management.model.User;
+import com.example.management.repository.TaskRepository;
+import com.example.management.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskServiceQueryCountTest {
+    private static final String AUTHOR = "user1@mail.com";
+    private static final String EXECUTOR = "user2@mail.com";
+    private static final int MANY_EXECUTORS = 50;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!userRepository.existsByEmail(executorEmail(1))) {
+            List<User> executors = new ArrayList<>();
+            for (int i = 1; i <= MANY_EXECUTORS; i++) {
+                User executor = new User();
+                executor.setEmail(executorEmail(i));
+                executor.setPassword("password");
+                executors.add(executor);
+            }
+            userRepository.saveAll(executors);
+        }
+        for (int i = 1; i <= 6; i++) {
+            String name = "query-count-" + i;
+            if (taskRepository.existsByName(name)) {
+                continue;
+            }
+            taskService.createTask(new TaskCreationRequestDto(name, "description", Status.PENDING,
+                    Priority.HIGH, List.of(EXECUTOR, "user3@mail.com")), AUTHOR);
+            for (int j = 1; j <= 3; j++) {
+                taskService.addComment(name, "comment " + j);
+            }
+        }
+        statistics.clear();
+    }
+
+    @Test
+    void getTasksUsesFixedNumberOfStatements() {
+        TaskPage page = taskService.getTasks(TaskPageRequest.ofPage(0, 5),
+                EnumSet.allOf(Status.class), EnumSet.allOf(Priority.class), TaskField.ALL);
+
+        assertEquals(5, page.getTasks().size());
+        // ids page, task rows, executor rows, comment rows
+        assertEquals(4, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getTasksSummaryDoesNotReadComments() {
+        TaskPage page = taskService.getTasks(TaskPageRequest.ofPage(0, 5),
+                EnumSet.allOf(Status.class), EnumSet.allOf(Priority.class), TaskField.SUMMARY);
+
+        assertEquals(5, page.getTasks().size());
+        page.getTasks().forEach(t -> assertNull(t.getComments()));
+        // ids page, task rows, executor rows
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getTasksAnswersNotModifiedFromVersions() {
+        TaskPage page = taskService.getTasks(TaskPageRequest.ofPage(0, 5),
+                EnumSet.allOf(Status.class), EnumSet.allOf(Priority.class), TaskField.ALL);
+        statistics.clear();
+
+        TaskPage unchanged = taskService.getTasks(TaskPageRequest.ofPage(0, 5), EnumSet.allOf(Status.class),
+                EnumSet.allOf(Priority.class), TaskField.ALL, page.getVersionTag()::equals);
+
+        assertTrue(unchanged.isNotModified());
+        assertEquals(page.getVersionTag(), unchanged.getVersionTag());
+        // ids page, versions
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getCommentsPagesWithCursor() {
+        CommentPage first = taskService.getComments("query-count-1", TaskPageRequest.afterCursor("", 2));
+        CommentPage second = taskService.getComments("query-count-1",
+                TaskPageRequest.afterCursor(first.getNextCursor(), 2));
+
+        assertEquals(List.of("comment 1", "comment 2"),
+                first.getComments().stream().map(CommentResponseDto::getText).toList());
+        assertEquals(List.of("comment 3"), second.getComments().stream().map(CommentResponseDto::getText).toList());
+        assertNull(second.getNextCursor());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getTasksByAuthorEmailUsesFixedNumberOfStatements() {
+        TaskPage page = taskService.getTasksByAuthorEmail(AUTHOR, TaskPageRequest.ofPage(0, 5),
+                EnumSet.allOf(Status.class), EnumSet.allOf(Priority.class), TaskField.ALL);
+
+        assertEquals(5, page.getTasks().size());
+        assertEquals(5, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getTasksByExecutorEmailUsesFixedNumberOfStatements() {
+        TaskPage page = taskService.getTasksByExecutorEmail(EXECUTOR, TaskPageRequest.ofPage(0, 5),
+                EnumSet.allOf(Status.class), EnumSet.allOf(Priority.class), TaskField.ALL);
+
+        assertEquals(5, page.getTasks().size());
+        assertEquals(5, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void cursorPageContinuesAfterPreviousPage() {
+        TaskPage first = taskService.getTasksByExecutorEmail(EXECUTOR, TaskPageRequest.ofPage(0, 3),
+                EnumSet.allOf(Status.class), EnumSet.allOf(Priority.class), TaskField.ALL);
+        TaskPage second = taskService.getTasksByExecutorEmail(EXECUTOR,
+                TaskPageRequest.afterCursor(first.getNextCursor(), 3),
+                EnumSet.allOf(Status.class), EnumSet.allOf(Priority.class), TaskField.ALL);
+
+        List<String> firstNames = first.getTasks().stream().map(TaskResponseDto::getName).toList();
+        assertEquals(3, second.getTasks().size());
+        second.getTasks().forEach(t -> assertFalse(firstNames.contains(t.getName())));
+    }
+
+    @Test
+    void createTaskResolvesExecutorsInOneQuery() {
+        List<String> executors = IntStream.rangeClosed(1, MANY_EXECUTORS)
+                .mapToObj(TaskServiceQueryCountTest::executorEmail).toList();
+
+        taskService.createTask(new TaskCreationRequestDto("executors-" + UUID.randomUUID(), "description",
+                Status.PENDING, Priority.LOW, executors), AUTHOR);
+
+        // name check, author, executors
+        assertEquals(3, statistics.getQueryExecutionCount());
+    }
+
+    @Test
+    void addExecutorsInsertsInOneStatement() {
+        String name = "executors-" + UUID.randomUUID();
+        taskService.createTask(new TaskCreationRequestDto(name, "description",
+                Status.PENDING, Priority.LOW, List.of()), AUTHOR);
+        List<String> executors = IntStream.rangeClosed(1, MANY_EXECUTORS)
+                .mapToObj(TaskServiceQueryCountTest::executorEmail).toList();
+        statistics.clear();
+
+        taskService.addExecutors(AUTHOR, name, executors);
+
+        // task with author, executors, insert, version bump
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(MANY_EXECUTORS, taskService.getTask(name).getExecutors().size());
+    }
+
+    @Test
+    void updateTaskRunsTwoStatements() {
+        String name = createTaskWithExecutor();
+
+        taskService.updateTask(EXECUTOR, name, Status.FINISHED, null, null);
+
+        // task state, conditional update
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(Status.FINISHED, taskService.getTask(name).getStatus());
+    }
+
+    @Test
+    void updateTaskReportsMissingAuthorityWithoutWriting() {
+        String name = createTaskWithExecutor();
+
+        assertThrows(NoAuthorityException.class,
+                () -> taskService.updateTask(EXECUTOR, name, null, Priority.LOW, null));
+        assertThrows(NoAuthorityException.class,
+                () -> taskService.updateTask("user4@mail.com", name, Status.FINISHED, null, null));
+        assertThrows(TaskNotFoundException.class,
+                () -> taskService.updateTask(AUTHOR, "missing-" + name, Status.FINISHED, null, null));
+        // task state for each call
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void deleteTaskRunsTwoStatements() {
+        String name = createTaskWithExecutor();
+        taskService.addComment(name, "comment");
+        statistics.clear();
+
+        assertThrows(NoAuthorityException.class, () -> taskService.deleteTask(EXECUTOR, name, null));
+        taskService.deleteTask(AUTHOR, name, null);
+
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertFalse(taskRepository.existsByName(name));
+    }
+
+    @Test
+    void exportTasksMergesCommentsOfEachTask() {
+        String author = executorEmail(MANY_EXECUTORS);
+        String prefix = "export-" + UUID.randomUUID() + "-";
+        for (int i = 0; i < 3; i++) {
+            taskService.createTask(new TaskCreationRequestDto(prefix + i, "description", Status.PENDING,
+                    Priority.LOW, List.of(EXECUTOR)), author);
+        }
+        taskService.addComment(prefix + 0, "first");
+        taskService.addComment(prefix + 2, "first");
+        taskService.addComment(prefix + 2, "second");
+        statistics.clear();
+
+        List<TaskResponseDto> exported = new ArrayList<>();
+        taskService.exportTasks(author, "", EnumSet.allOf(Status.class), EnumSet.allOf(Priority.class),
+                exported::add);
+
+        Map<String, Integer> comments = exported.stream().filter(t -> t.getName().startsWith(prefix))
+                .collect(Collectors.toMap(TaskResponseDto::getName, t -> t.getComments().size()));
+        assertEquals(Map.of(prefix + 0, 1, prefix + 1, 0, prefix + 2, 2), comments);
+        exported.forEach(t -> assertEquals(List.of(EXECUTOR), t.getExecutors()));
+        // task cursor, comment cursor, executors of the only chunk
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void getTaskUsesFixedNumberOfStatements() {
+        TaskResponseDto task = taskService.getTask("query-count-1");
+
+        assertEquals(2, task.getExecutors().size());
+        assertEquals(3, task.getComments().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    private String createTaskWithExecutor() {
+        String name = "write-" + UUID.randomUUID();
+        taskService.createTask(new TaskCreationRequestDto(name, "description",
+                Status.PENDING, Priority.HIGH, List.of(EXECUTOR)), AUTHOR);
+        statistics.clear();
+        return name;
+    }
+
+    private static String executorEmail(int i) {
+        return "executor" + i + "@mail.com";
+    }
+}
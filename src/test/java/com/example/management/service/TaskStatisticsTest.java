@@ -0,0 +1,68 @@
+package com.example.management.service;
+
+import com.example.management.dto.TaskCreationRequestDto;
+import com.example.management.dto.TaskStatisticsResponseDto;
+import com.example.management.model.Priority;
+import com.example.management.model.Status;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TaskStatisticsTest {
+    private static final String AUTHOR = "user1@mail.com";
+    private static final String EXECUTOR = "user2@mail.com";
+    private static final String ADDED_EXECUTOR = "user3@mail.com";
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskStatistics taskStatistics;
+
+    @Test
+    void countersFollowChangesAndMatchRecount() {
+        taskStatistics.reconcile();
+        long pendingHigh = count(taskStatistics.getStatisticsByAuthorEmail(AUTHOR), Status.PENDING, Priority.HIGH);
+
+        String name = "statistics-" + UUID.randomUUID();
+        taskService.createTask(new TaskCreationRequestDto(name, "description",
+                Status.PENDING, Priority.HIGH, List.of(EXECUTOR)), AUTHOR);
+        String deleted = "statistics-" + UUID.randomUUID();
+        taskService.createTask(new TaskCreationRequestDto(deleted, "description",
+                Status.PENDING, Priority.HIGH, List.of(EXECUTOR)), AUTHOR);
+        assertEquals(pendingHigh + 2,
+                count(taskStatistics.getStatisticsByAuthorEmail(AUTHOR), Status.PENDING, Priority.HIGH));
+
+        taskService.updateTask(EXECUTOR, name, Status.FINISHED, null, null);
+        taskService.updateTask(AUTHOR, name, null, Priority.LOW, null);
+        taskService.addExecutors(AUTHOR, name, List.of(ADDED_EXECUTOR));
+        taskService.addComment(name, "comment");
+        taskService.deleteTask(AUTHOR, deleted, null);
+        assertEquals(pendingHigh,
+                count(taskStatistics.getStatisticsByAuthorEmail(AUTHOR), Status.PENDING, Priority.HIGH));
+
+        TaskStatisticsResponseDto overall = taskStatistics.getStatistics();
+        TaskStatisticsResponseDto byAuthor = taskStatistics.getStatisticsByAuthorEmail(AUTHOR);
+        TaskStatisticsResponseDto byExecutor = taskStatistics.getStatisticsByExecutorEmail(EXECUTOR);
+        TaskStatisticsResponseDto byAddedExecutor = taskStatistics.getStatisticsByExecutorEmail(ADDED_EXECUTOR);
+        taskStatistics.reconcile();
+
+        assertEquals(overall.getCounts(), taskStatistics.getStatistics().getCounts());
+        assertEquals(byAuthor.getCounts(), taskStatistics.getStatisticsByAuthorEmail(AUTHOR).getCounts());
+        assertEquals(byExecutor.getCounts(), taskStatistics.getStatisticsByExecutorEmail(EXECUTOR).getCounts());
+        assertEquals(byAddedExecutor.getCounts(),
+                taskStatistics.getStatisticsByExecutorEmail(ADDED_EXECUTOR).getCounts());
+    }
+
+    private static long count(TaskStatisticsResponseDto statistics, Status status, Priority priority) {
+        return statistics.getCounts().get(status).get(priority);
+    }
+}
@@ -0,0 +1,15 @@
+-- the schema hibernate created with ddl-auto: update for the entities before flyway took over
+create table users (id bigint generated by default as identity, email varchar(255) unique, password varchar(255), primary key (id));
+create table tasks (id bigint generated by default as identity, description varchar(255), name varchar(255) unique, priority varchar(255) check (priority in ('LOW','MIDDLE','HIGH')), status varchar(255) check (status in ('PENDING','PROCESSING','FINISHED')), author_id bigint, primary key (id));
+create table executors_tasks (executor_id bigint not null, task_id bigint not null, primary key (executor_id, task_id));
+create table comments (id bigint generated by default as identity, text varchar(255), author_id bigint, task_id bigint, primary key (id));
+alter table if exists comments add constraint FKn2na60ukhs76ibtpt9burkm27 foreign key (author_id) references users;
+alter table if exists comments add constraint FKi7pp0331nbiwd2844kg78kfwb foreign key (task_id) references tasks;
+alter table if exists executors_tasks add constraint FKfvhb7ixf0a5kxg4nq3vtkiytc foreign key (task_id) references tasks;
+alter table if exists executors_tasks add constraint FKdk6ffb3yhvnc8efdrj5ghkgqe foreign key (executor_id) references users;
+alter table if exists tasks add constraint FKhods8r8oyyx7tuj3c91ki2sk1 foreign key (author_id) references users;
+
+insert into users (email, password) values ('legacy@mail.com', 'password');
+insert into tasks (name, description, status, priority, author_id) values ('legacy-1', 'description', 'PENDING', 'LOW', 1), ('legacy-2', 'description', 'FINISHED', 'HIGH', 1);
+insert into executors_tasks (executor_id, task_id) values (1, 1);
+insert into comments (text, author_id, task_id) values ('comment', 1, 1);